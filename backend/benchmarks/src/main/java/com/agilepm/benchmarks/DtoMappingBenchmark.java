@@ -0,0 +1,49 @@
+package com.agilepm.benchmarks;
+
+import com.agilepm.dto.ProjectDTO;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.dto.UserDTO;
+import com.agilepm.model.Company;
+import com.agilepm.model.Project;
+import com.agilepm.model.Task;
+import com.agilepm.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of the entity-to-DTO constructors used on every read path
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private Task task;
+    private Project project;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        Company company = Fixtures.company();
+        user = Fixtures.user(1L, company);
+        project = Fixtures.project(1L, company, user);
+        task = Fixtures.task(1L, project, user, Fixtures.sprint(1L, project));
+    }
+
+    @Benchmark
+    public TaskDTO taskDto() {
+        return new TaskDTO(task);
+    }
+
+    @Benchmark
+    public ProjectDTO projectDto() {
+        return new ProjectDTO(project);
+    }
+
+    @Benchmark
+    public UserDTO userDto() {
+        return new UserDTO(user);
+    }
+}
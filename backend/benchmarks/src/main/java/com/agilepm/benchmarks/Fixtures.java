@@ -0,0 +1,71 @@
+package com.agilepm.benchmarks;
+
+import com.agilepm.model.Company;
+import com.agilepm.model.Project;
+import com.agilepm.model.Sprint;
+import com.agilepm.model.Task;
+import com.agilepm.model.User;
+
+import java.time.LocalDateTime;
+
+// Detached entity graphs shaped like what the services map to DTOs
+final class Fixtures {
+
+    private Fixtures() {}
+
+    static Company company() {
+        Company company = new Company();
+        company.setId(1L);
+        company.setName("Acme Corp");
+        company.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        return company;
+    }
+
+    static User user(long id, Company company) {
+        User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@acme.test");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setRole(User.Role.DEVELOPER);
+        user.setCompany(company);
+        user.setCreatedAt(LocalDateTime.of(2024, 1, 2, 9, 0));
+        return user;
+    }
+
+    static Project project(long id, Company company, User manager) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        project.setDescription("Benchmark project " + id);
+        project.setCompany(company);
+        project.setProjectManager(manager);
+        project.setWorkflow(Project.ProjectWorkflow.SCRUM);
+        project.setCreatedAt(LocalDateTime.of(2024, 1, 3, 9, 0));
+        return project;
+    }
+
+    static Sprint sprint(long id, Project project) {
+        Sprint sprint = new Sprint();
+        sprint.setId(id);
+        sprint.setProject(project);
+        sprint.setStartDate(LocalDateTime.of(2024, 2, 1, 9, 0));
+        sprint.setEndDate(LocalDateTime.of(2024, 2, 14, 17, 0));
+        return sprint;
+    }
+
+    static Task task(long id, Project project, User assignee, Sprint sprint) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Description of task " + id + " with a realistic amount of text for a card.");
+        task.setProject(project);
+        task.setAssignedTo(assignee);
+        task.setSprint(sprint);
+        task.setStatus(Task.TaskStatus.values()[(int) (id % Task.TaskStatus.values().length)]);
+        task.setPriority(Task.TaskPriority.values()[(int) (id % Task.TaskPriority.values().length)]);
+        task.setDueDate(LocalDateTime.of(2024, 2, 10, 17, 0));
+        task.setCreatedAt(LocalDateTime.of(2024, 2, 1, 10, 0));
+        return task;
+    }
+}
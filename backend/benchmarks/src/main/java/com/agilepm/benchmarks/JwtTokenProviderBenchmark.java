@@ -0,0 +1,83 @@
+package com.agilepm.benchmarks;
+
+import com.agilepm.model.Company;
+import com.agilepm.model.User;
+import com.agilepm.security.JwtTokenProvider;
+import com.agilepm.security.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Token issue on login and the per-request parse/validate path. The *Uncached
+// benchmarks replay the earlier provider, which derived the HMAC key and built a
+// parser on every call, as the baseline for the cached key and parser.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing";
+
+    private JwtTokenProvider tokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 86_400_000L);
+        Company company = Fixtures.company();
+        user = Fixtures.user(1L, company);
+        token = tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public TokenClaims parse() {
+        return tokenProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return tokenProvider.extractUsername(token);
+    }
+
+    @Benchmark
+    public String issueUncached() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", user.getId());
+        claims.put("email", user.getEmail());
+        claims.put("role", user.getRole().name());
+        return Jwts.builder()
+            .setClaims(claims)
+            .setSubject(user.getEmail())
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + 86_400_000L))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+            .compact();
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+}
@@ -0,0 +1,41 @@
+package com.agilepm.benchmarks;
+
+import com.agilepm.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Permission checks evaluated by method security on every guarded call
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RolePermissionBenchmark {
+
+    private User.Role[] roles;
+    private User.Permission[] permissions;
+
+    @Setup
+    public void setUp() {
+        roles = User.Role.values();
+        permissions = User.Permission.values();
+    }
+
+    @Benchmark
+    public boolean singleCheck() {
+        return User.Role.DEVELOPER.hasPermission(User.Permission.TASK_WRITE);
+    }
+
+    // Every role against every permission, hits and misses mixed
+    @Benchmark
+    public void matrix(Blackhole blackhole) {
+        for (User.Role role : roles) {
+            for (User.Permission permission : permissions) {
+                blackhole.consume(role.hasPermission(permission));
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.agilepm.benchmarks;
+
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.model.Company;
+import com.agilepm.model.Project;
+import com.agilepm.model.Sprint;
+import com.agilepm.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of task list responses, configured like Spring Boot's default mapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListSerializationBenchmark {
+
+    @Param({"50", "500", "5000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskDTO> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        Company company = Fixtures.company();
+        User user = Fixtures.user(1L, company);
+        Project project = Fixtures.project(1L, company, user);
+        Sprint sprint = Fixtures.sprint(1L, project);
+
+        tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new TaskDTO(Fixtures.task(i + 1, project, user, sprint)));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,48 @@
+package com.agilepm.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// Lives in com.agilepm.service to reach the package-private generateDeviceId,
+// which parses the User-Agent on every login and failed login
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeviceIdBenchmark {
+
+    private AdaptiveAuthenticationService adaptiveAuthenticationService;
+    private MockHttpServletRequest directRequest;
+    private MockHttpServletRequest proxiedRequest;
+
+    @Setup
+    public void setUp() {
+        // generateDeviceId touches no collaborators
+        adaptiveAuthenticationService = new AdaptiveAuthenticationService(null, null, null);
+
+        directRequest = new MockHttpServletRequest();
+        directRequest.setRemoteAddr("203.0.113.10");
+        directRequest.addHeader("User-Agent",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36");
+
+        proxiedRequest = new MockHttpServletRequest();
+        proxiedRequest.setRemoteAddr("10.0.0.5");
+        proxiedRequest.addHeader("X-Forwarded-For", "198.51.100.7, 10.0.0.5");
+        proxiedRequest.addHeader("User-Agent",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_0 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.0 Mobile/15E148 Safari/604.1");
+    }
+
+    @Benchmark
+    public String direct() {
+        return adaptiveAuthenticationService.generateDeviceId(directRequest);
+    }
+
+    @Benchmark
+    public String forwarded() {
+        return adaptiveAuthenticationService.generateDeviceId(proxiedRequest);
+    }
+}
@@ -0,0 +1,50 @@
+package com.agilepm.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Ids of the seeded rows, grouped the way the workload picks them
+class Dataset {
+
+    long[] companyIds;
+    long[][] companyUserIds;        // per company; index 0 is the company admin
+    String[][] companyUserEmails;
+    String[][] companyUserRoles;
+    long[] projectIds;
+    int[] projectCompany;           // company index of each project
+    long[][] projectSprintIds;
+    long[][] projectTaskIds;
+    long comments;
+    long seedMillis;
+
+    // Zipf over projects: the same skew the tasks were generated with
+    ZipfSampler projectSampler;
+
+    long taskCount() {
+        long count = 0;
+        for (long[] tasks : projectTaskIds) {
+            count += tasks.length;
+        }
+        return count;
+    }
+
+    Map<String, Object> describe() {
+        long users = 0;
+        for (long[] userIds : companyUserIds) {
+            users += userIds.length;
+        }
+        long sprints = 0;
+        for (long[] sprintIds : projectSprintIds) {
+            sprints += sprintIds.length;
+        }
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("companies", companyIds.length);
+        description.put("users", users);
+        description.put("projects", projectIds.length);
+        description.put("sprints", sprints);
+        description.put("tasks", taskCount());
+        description.put("comments", comments);
+        description.put("seedMillis", seedMillis);
+        return description;
+    }
+}
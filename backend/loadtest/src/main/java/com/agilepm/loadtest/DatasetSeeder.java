@@ -0,0 +1,436 @@
+package com.agilepm.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Seeds companies -> users -> projects -> sprints -> tasks -> comments with JDBC
+// batches. Task volume per project, assignee load and comment volume per task all
+// follow Zipf distributions, so a handful of projects and tickets are very hot.
+class DatasetSeeder {
+
+    static final String PASSWORD = "loadtest";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] ROLES = {"DEVELOPER", "DEVELOPER", "DEVELOPER", "QA", "STAKEHOLDER"};
+    private static final String[] TASK_STATUSES = {"TODO", "IN_PROGRESS", "REVIEW", "DONE"};
+    private static final String[] PRIORITIES = {"MUST_HAVE", "SHOULD_HAVE", "COULD_HAVE", "WONT_HAVE"};
+    private static final String[] WORKFLOWS = {"SCRUM", "SCRUM", "KANBAN", "HYBRID"};
+
+    private final DataSource dataSource;
+    private final LoadTestOptions options;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    DatasetSeeder(DataSource dataSource, LoadTestOptions options) {
+        this.dataSource = dataSource;
+        this.options = options;
+        this.random = new Random(options.seed);
+    }
+
+    Dataset seed() throws SQLException {
+        long start = System.currentTimeMillis();
+        Dataset dataset = new Dataset();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            seedCompaniesAndUsers(connection, dataset);
+            seedProjectsAndSprints(connection, dataset);
+            seedTasks(connection, dataset);
+            seedColumnCounters(connection);
+            seedComments(connection, dataset);
+            seedCommentCounts(connection);
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE");
+            }
+        }
+
+        dataset.projectSampler = new ZipfSampler(dataset.projectIds.length, options.projectSkew);
+        dataset.seedMillis = System.currentTimeMillis() - start;
+        return dataset;
+    }
+
+    // Rebuilds the id lists from a database seeded by an earlier run
+    Dataset load() throws SQLException {
+        Dataset dataset = new Dataset();
+        try (Connection connection = dataSource.getConnection()) {
+            List<Long> companies = queryIds(connection, "SELECT id FROM companies ORDER BY id");
+            Map<Long, Integer> companyIndex = new HashMap<>();
+            dataset.companyIds = toArray(companies);
+            for (int c = 0; c < companies.size(); c++) {
+                companyIndex.put(companies.get(c), c);
+            }
+
+            List<List<Object[]>> users = groupRows(connection,
+                "SELECT company_id, id, email, role FROM users WHERE company_id IS NOT NULL " +
+                "ORDER BY company_id, (role = 'ADMIN') DESC, id", companyIndex);
+            dataset.companyUserIds = new long[companies.size()][];
+            dataset.companyUserEmails = new String[companies.size()][];
+            dataset.companyUserRoles = new String[companies.size()][];
+            for (int c = 0; c < companies.size(); c++) {
+                List<Object[]> rows = users.get(c);
+                dataset.companyUserIds[c] = new long[rows.size()];
+                dataset.companyUserEmails[c] = new String[rows.size()];
+                dataset.companyUserRoles[c] = new String[rows.size()];
+                for (int u = 0; u < rows.size(); u++) {
+                    dataset.companyUserIds[c][u] = (Long) rows.get(u)[0];
+                    dataset.companyUserEmails[c][u] = (String) rows.get(u)[1];
+                    dataset.companyUserRoles[c][u] = (String) rows.get(u)[2];
+                }
+            }
+
+            // Projects ordered by task count so the Zipf ranks line up with the hot projects
+            List<Object[]> projects = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                     "SELECT p.id, p.company_id FROM projects p LEFT JOIN tasks t ON t.project_id = p.id " +
+                     "GROUP BY p.id ORDER BY COUNT(t.id) DESC, p.id")) {
+                while (rs.next()) {
+                    projects.add(new Object[] {rs.getLong(1), rs.getLong(2)});
+                }
+            }
+            Map<Long, Integer> projectIndex = new HashMap<>();
+            dataset.projectIds = new long[projects.size()];
+            dataset.projectCompany = new int[projects.size()];
+            for (int p = 0; p < projects.size(); p++) {
+                dataset.projectIds[p] = (Long) projects.get(p)[0];
+                dataset.projectCompany[p] = companyIndex.get((Long) projects.get(p)[1]);
+                projectIndex.put(dataset.projectIds[p], p);
+            }
+
+            dataset.projectSprintIds = groupIds(connection,
+                "SELECT project_id, id FROM sprints ORDER BY project_id, start_date", projectIndex);
+            dataset.projectTaskIds = groupIds(connection,
+                "SELECT project_id, id FROM tasks ORDER BY project_id, id", projectIndex);
+
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM comments")) {
+                rs.next();
+                dataset.comments = rs.getLong(1);
+            }
+        }
+
+        dataset.projectSampler = new ZipfSampler(dataset.projectIds.length, options.projectSkew);
+        return dataset;
+    }
+
+    private void seedCompaniesAndUsers(Connection connection, Dataset dataset) throws SQLException {
+        int companies = options.companies;
+        dataset.companyIds = insertReturningIds(connection,
+            "INSERT INTO companies (name, created_at) VALUES (?, ?)",
+            companies,
+            (ps, c) -> {
+                ps.setString(1, "Load Test Company " + (c + 1));
+                ps.setTimestamp(2, daysAgo(400));
+            });
+
+        // One hash for everyone; BCrypt per row would dominate seeding time
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        dataset.companyUserIds = new long[companies][];
+        dataset.companyUserEmails = new String[companies][];
+        dataset.companyUserRoles = new String[companies][];
+        for (int c = 0; c < companies; c++) {
+            int users = options.usersPerCompany;
+            long companyId = dataset.companyIds[c];
+            String[] emails = new String[users];
+            String[] roles = new String[users];
+            for (int u = 0; u < users; u++) {
+                emails[u] = "lt-c" + (c + 1) + "-u" + (u + 1) + "@loadtest.example";
+                roles[u] = u == 0 ? "ADMIN" : u <= 2 ? "PROJECT_MANAGER" : ROLES[random.nextInt(ROLES.length)];
+            }
+
+            dataset.companyUserIds[c] = insertReturningIds(connection,
+                "INSERT INTO users (name, email, password, role, company_id, created_at, mfa_enabled) " +
+                "VALUES (?, ?, ?, ?, ?, ?, FALSE)",
+                users,
+                (ps, u) -> {
+                    ps.setString(1, "Load User " + (u + 1));
+                    ps.setString(2, emails[u]);
+                    ps.setString(3, passwordHash);
+                    ps.setString(4, roles[u]);
+                    ps.setLong(5, companyId);
+                    ps.setTimestamp(6, daysAgo(380));
+                });
+            dataset.companyUserEmails[c] = emails;
+            dataset.companyUserRoles[c] = roles;
+        }
+    }
+
+    private void seedProjectsAndSprints(Connection connection, Dataset dataset) throws SQLException {
+        int projects = options.companies * options.projectsPerCompany;
+        dataset.projectCompany = new int[projects];
+        for (int p = 0; p < projects; p++) {
+            dataset.projectCompany[p] = random.nextInt(options.companies);
+        }
+
+        dataset.projectIds = insertReturningIds(connection,
+            "INSERT INTO projects (name, description, company_id, manager_id, created_at, workflow) " +
+            "VALUES (?, ?, ?, ?, ?, ?)",
+            projects,
+            (ps, p) -> {
+                int company = dataset.projectCompany[p];
+                long[] users = dataset.companyUserIds[company];
+                ps.setString(1, "Project " + (p + 1));
+                ps.setString(2, "Synthetic load test project " + (p + 1));
+                ps.setLong(3, dataset.companyIds[company]);
+                ps.setLong(4, users[Math.min(1 + random.nextInt(2), users.length - 1)]);
+                ps.setTimestamp(5, daysAgo(365));
+                ps.setString(6, WORKFLOWS[random.nextInt(WORKFLOWS.length)]);
+            });
+
+        // Two-week sprints ending with the current one
+        int sprints = options.sprintsPerProject;
+        dataset.projectSprintIds = new long[projects][];
+        for (int p = 0; p < projects; p++) {
+            long projectId = dataset.projectIds[p];
+            dataset.projectSprintIds[p] = insertReturningIds(connection,
+                "INSERT INTO sprints (project_id, start_date, end_date, status, created_at) VALUES (?, ?, ?, ?, ?)",
+                sprints,
+                (ps, s) -> {
+                    int weeksAgo = (sprints - 1 - s) * 2 + 1;
+                    ps.setLong(1, projectId);
+                    ps.setTimestamp(2, daysAgo(weeksAgo * 7));
+                    ps.setTimestamp(3, daysAgo(weeksAgo * 7 - 14));
+                    ps.setString(4, s == sprints - 1 ? "IN_PROGRESS" : "COMPLETED");
+                    ps.setTimestamp(5, daysAgo(weeksAgo * 7 + 3));
+                });
+        }
+    }
+
+    private void seedTasks(Connection connection, Dataset dataset) throws SQLException {
+        int projects = dataset.projectIds.length;
+        ZipfSampler projectSampler = new ZipfSampler(projects, options.projectSkew);
+        ZipfSampler[] assigneeSamplers = new ZipfSampler[options.companies];
+        for (int c = 0; c < options.companies; c++) {
+            assigneeSamplers[c] = new ZipfSampler(dataset.companyUserIds[c].length, options.projectSkew);
+        }
+
+        int[] taskProject = new int[options.tasks];
+        for (int t = 0; t < taskProject.length; t++) {
+            taskProject[t] = projectSampler.sample(random);
+        }
+
+        long[] taskIds = insertReturningIds(connection,
+            "INSERT INTO tasks (title, description, project_id, assigned_to, sprint_id, status, priority, due_date, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            taskProject.length,
+            (ps, t) -> {
+                int project = taskProject[t];
+                int company = dataset.projectCompany[project];
+                long[] sprints = dataset.projectSprintIds[project];
+
+                ps.setString(1, "Task " + (t + 1) + " of project " + (project + 1));
+                ps.setString(2, "Generated task description " + (t + 1) + " with enough text to resemble a real ticket body.");
+                ps.setLong(3, dataset.projectIds[project]);
+
+                // A tenth of the backlog is unassigned; the rest leans on a few busy people
+                if (random.nextInt(10) == 0) {
+                    ps.setNull(4, Types.BIGINT);
+                } else {
+                    ps.setLong(4, dataset.companyUserIds[company][assigneeSamplers[company].sample(random)]);
+                }
+
+                // 70% sit in a sprint; tasks in finished sprints are mostly done
+                String status;
+                if (sprints.length > 0 && random.nextInt(10) < 7) {
+                    int sprint = sprints.length - 1 - Math.min(random.nextInt(sprints.length), random.nextInt(sprints.length));
+                    ps.setLong(5, sprints[sprint]);
+                    boolean finished = sprint < sprints.length - 1;
+                    status = finished && random.nextInt(10) < 9 ? "DONE" : TASK_STATUSES[random.nextInt(TASK_STATUSES.length)];
+                } else {
+                    ps.setNull(5, Types.BIGINT);
+                    status = random.nextInt(4) == 0 ? "IN_PROGRESS" : "TODO";
+                }
+                ps.setString(6, status);
+                ps.setString(7, PRIORITIES[random.nextInt(PRIORITIES.length)]);
+                ps.setTimestamp(8, daysAgo(random.nextInt(120) - 60));
+                ps.setTimestamp(9, daysAgo(random.nextInt(365)));
+            });
+
+        int[] perProject = new int[projects];
+        for (int project : taskProject) {
+            perProject[project]++;
+        }
+        dataset.projectTaskIds = new long[projects][];
+        for (int p = 0; p < projects; p++) {
+            dataset.projectTaskIds[p] = new long[perProject[p]];
+        }
+        int[] filled = new int[projects];
+        for (int t = 0; t < taskIds.length; t++) {
+            int project = taskProject[t];
+            dataset.projectTaskIds[project][filled[project]++] = taskIds[t];
+        }
+    }
+
+    // Tasks bypass the service layer here, so the board column counters are rebuilt in one pass
+    private void seedColumnCounters(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "INSERT INTO project_column_counters (project_id, status, task_count) " +
+                "SELECT project_id, status, COUNT(*) FROM tasks WHERE status IS NOT NULL " +
+                "GROUP BY project_id, status " +
+                "ON CONFLICT (project_id, status) DO UPDATE SET task_count = excluded.task_count");
+        }
+        connection.commit();
+    }
+
+    // Comments are inserted directly, so tasks.comment_count is derived once afterwards
+    private void seedCommentCounts(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "UPDATE tasks t SET comment_count = c.total " +
+                "FROM (SELECT task_id, COUNT(*) AS total FROM comments GROUP BY task_id) c " +
+                "WHERE c.task_id = t.id");
+        }
+        connection.commit();
+    }
+
+    private void seedComments(Connection connection, Dataset dataset) throws SQLException {
+        long[] taskIds = new long[(int) dataset.taskCount()];
+        int[] taskCompany = new int[taskIds.length];
+        int next = 0;
+        for (int p = 0; p < dataset.projectIds.length; p++) {
+            for (long taskId : dataset.projectTaskIds[p]) {
+                taskIds[next] = taskId;
+                taskCompany[next++] = dataset.projectCompany[p];
+            }
+        }
+        if (taskIds.length == 0) {
+            return;
+        }
+
+        // Hot tickets are spread over projects rather than being the lowest ids
+        int[] rankToTask = new int[taskIds.length];
+        for (int i = 0; i < rankToTask.length; i++) {
+            int j = random.nextInt(i + 1);
+            rankToTask[i] = rankToTask[j];
+            rankToTask[j] = i;
+        }
+
+        ZipfSampler taskSampler = new ZipfSampler(taskIds.length, options.commentSkew);
+        long comments = Math.round(taskIds.length * options.commentsPerTask);
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO comments (task_id, user_id, message, timestamp) VALUES (?, ?, ?, ?)")) {
+            for (long i = 0; i < comments; i++) {
+                int task = rankToTask[taskSampler.sample(random)];
+                long[] users = dataset.companyUserIds[taskCompany[task]];
+                ps.setLong(1, taskIds[task]);
+                ps.setLong(2, users[random.nextInt(users.length)]);
+                ps.setString(3, "Comment " + (i + 1) + ": looks good, but please double check the edge cases.");
+                ps.setTimestamp(4, daysAgo(random.nextInt(300)));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        }
+        dataset.comments = comments;
+    }
+
+    private long[] insertReturningIds(Connection connection, String sql, int count, RowBinder binder)
+            throws SQLException {
+        long[] ids = new long[count];
+        int next = 0;
+        try (PreparedStatement ps = connection.prepareStatement(sql, new String[] {"id"})) {
+            for (int i = 0; i < count; i++) {
+                binder.bind(ps, i);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i == count - 1) {
+                    ps.executeBatch();
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            ids[next++] = keys.getLong(1);
+                        }
+                    }
+                    connection.commit();
+                }
+            }
+        }
+        return ids;
+    }
+
+    private Timestamp daysAgo(int days) {
+        return Timestamp.valueOf(now.minusDays(days).minusMinutes(random.nextInt(24 * 60)));
+    }
+
+    private static List<Long> queryIds(Connection connection, String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    // Rows of (owner id, values...) grouped by the owner's index
+    private static List<List<Object[]>> groupRows(Connection connection, String sql, Map<Long, Integer> ownerIndex)
+            throws SQLException {
+        List<List<Object[]>> groups = new ArrayList<>();
+        for (int i = 0; i < ownerIndex.size(); i++) {
+            groups.add(new ArrayList<>());
+        }
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            int columns = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                Integer owner = ownerIndex.get(rs.getLong(1));
+                if (owner == null) {
+                    continue;
+                }
+                Object[] values = new Object[columns - 1];
+                for (int c = 2; c <= columns; c++) {
+                    values[c - 2] = rs.getObject(c);
+                }
+                groups.get(owner).add(values);
+            }
+        }
+        return groups;
+    }
+
+    private static long[][] groupIds(Connection connection, String sql, Map<Long, Integer> ownerIndex)
+            throws SQLException {
+        List<List<Object[]>> groups = groupRows(connection, sql, ownerIndex);
+        long[][] ids = new long[groups.size()][];
+        for (int i = 0; i < groups.size(); i++) {
+            List<Object[]> rows = groups.get(i);
+            ids[i] = new long[rows.size()];
+            for (int r = 0; r < rows.size(); r++) {
+                ids[i][r] = ((Number) rows.get(r)[0]).longValue();
+            }
+        }
+        return ids;
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+}
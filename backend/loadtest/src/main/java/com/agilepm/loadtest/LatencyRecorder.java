@@ -0,0 +1,89 @@
+package com.agilepm.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Per-worker latency samples by endpoint; workers never share a recorder, and the
+// recorders are merged once the run is over
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new TreeMap<>();
+
+    void record(String endpoint, long nanos, boolean error) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, error);
+    }
+
+    void merge(LatencyRecorder other) {
+        other.samples.forEach((endpoint, theirs) ->
+            samples.computeIfAbsent(endpoint, key -> new Samples()).addAll(theirs));
+    }
+
+    // Endpoint name -> statistics, sorted by name so reports diff cleanly
+    Map<String, Map<String, Object>> summarize(double elapsedSeconds) {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        samples.forEach((endpoint, s) -> summary.put(endpoint, s.summarize(elapsedSeconds)));
+        return summary;
+    }
+
+    Map<String, Object> summarizeAll(double elapsedSeconds) {
+        Samples all = new Samples();
+        samples.values().forEach(all::addAll);
+        return all.summarize(elapsedSeconds);
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(long value, boolean error) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (error) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.nanos[i], false);
+            }
+            errors += other.errors;
+        }
+
+        Map<String, Object> summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", count);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", round(count / elapsedSeconds));
+            summary.put("p50Ms", millis(percentile(sorted, 0.50)));
+            summary.put("p90Ms", millis(percentile(sorted, 0.90)));
+            summary.put("p99Ms", millis(percentile(sorted, 0.99)));
+            summary.put("maxMs", millis(count > 0 ? sorted[count - 1] : 0));
+            return summary;
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.agilepm.loadtest;
+
+import com.agilepm.AgileProjectManagementApplication;
+import com.agilepm.model.User;
+import com.agilepm.security.JwtTokenProvider;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Boots the backend in-process against embedded Postgres (or --jdbc-url), seeds a
+ * synthetic dataset, drives the REST API and writes a latency/throughput report.
+ * See {@link LoadTestOptions} for the available --name=value options.
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        EmbeddedPostgres embeddedPostgres = null;
+        String jdbcUrl = options.jdbcUrl;
+        if (jdbcUrl == null) {
+            embeddedPostgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("shared_buffers", "256MB")
+                .start();
+            jdbcUrl = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+        }
+
+        ConfigurableApplicationContext context = null;
+        try {
+            context = startApplication(jdbcUrl, options);
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            DatasetSeeder seeder = new DatasetSeeder(context.getBean(DataSource.class), options);
+            System.out.println(options.skipSeed ? "Loading existing dataset..." : "Seeding dataset...");
+            Dataset dataset = options.skipSeed ? seeder.load() : seeder.seed();
+            System.out.println("Dataset: " + dataset.describe());
+
+            List<List<WorkloadDriver.Session>> sessions = createSessions(
+                context.getBean(JwtTokenProvider.class), dataset, options.sessionsPerCompany);
+
+            WorkloadDriver driver = new WorkloadDriver("http://localhost:" + port, dataset, sessions, options);
+
+            // Rows were seeded behind the application's back, so the search index has to catch up
+            System.out.println("Preparing " + options.searchBackend + " search...");
+            System.out.println("Search documents indexed: " + driver.rebuildSearchIndex());
+
+            System.out.printf("Running workload: %d workers, %ds warmup, %ds measured%n",
+                options.concurrency, options.warmupSeconds, options.durationSeconds);
+            LatencyRecorder recorder = driver.run();
+
+            LoadTestReport report = new LoadTestReport(options, dataset, recorder);
+            report.write(Paths.get(options.report));
+            report.print(System.out);
+            if (options.baseline != null) {
+                report.compare(Paths.get(options.baseline), System.out);
+            }
+            System.out.println("Report written to " + options.report);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (embeddedPostgres != null) {
+                embeddedPostgres.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(String jdbcUrl, LoadTestOptions options)
+        throws IOException {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", jdbcUrl);
+        properties.put("spring.datasource.username", options.dbUsername);
+        properties.put("spring.datasource.password", options.dbPassword);
+        properties.put("server.port", 0);
+        properties.put("management.server.port", 0);
+        properties.put("app.audit-log.archive.enabled", false);
+        properties.put("app.search.backend", options.searchBackend);
+        // A fresh Lucene index per run, so results never depend on a previous dataset
+        properties.put("app.search.index-directory",
+            Files.createTempDirectory("loadtest-search-index").toString());
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.agilepm", "WARN");
+
+        return new SpringApplicationBuilder(AgileProjectManagementApplication.class)
+            .properties(properties)
+            .run();
+    }
+
+    // Tokens are minted directly; going through /login would measure BCrypt, not the API
+    private static List<List<WorkloadDriver.Session>> createSessions(
+        JwtTokenProvider tokenProvider,
+        Dataset dataset,
+        int perCompany
+    ) {
+        List<List<WorkloadDriver.Session>> sessions = new ArrayList<>();
+        for (int c = 0; c < dataset.companyUserIds.length; c++) {
+            List<WorkloadDriver.Session> companySessions = new ArrayList<>();
+            int users = Math.min(perCompany, dataset.companyUserIds[c].length);
+            for (int u = 0; u < users; u++) {
+                User user = new User();
+                user.setId(dataset.companyUserIds[c][u]);
+                user.setEmail(dataset.companyUserEmails[c][u]);
+                user.setRole(User.Role.valueOf(dataset.companyUserRoles[c][u]));
+                companySessions.add(new WorkloadDriver.Session(user.getId(), tokenProvider.generateToken(user)));
+            }
+            sessions.add(companySessions);
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,97 @@
+package com.agilepm.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Command line options, given as --name=value; every option has a default
+public class LoadTestOptions {
+
+    // Database: embedded Postgres unless a JDBC URL is given
+    String jdbcUrl;
+    String dbUsername = "postgres";
+    String dbPassword = "postgres";
+    boolean skipSeed;
+
+    // Application
+    String searchBackend = "lucene";   // lucene or postgres, see app.search.backend
+
+    // Dataset shape
+    int companies = 5;
+    int usersPerCompany = 40;
+    int projectsPerCompany = 8;
+    int sprintsPerProject = 6;
+    int tasks = 100_000;
+    double commentsPerTask = 3.0;
+    double projectSkew = 1.1;   // Zipf exponent: tasks per project, users per assignment
+    double commentSkew = 0.8;   // Zipf exponent: comments per task
+    long seed = 42;
+
+    // Workload
+    int concurrency = 16;
+    int warmupSeconds = 15;
+    int durationSeconds = 60;
+    int sessionsPerCompany = 20;
+
+    // Output
+    String report = "target/loadtest-report.json";
+    String baseline;
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            options.set(name, value);
+        }
+        return options;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "jdbc-url" -> jdbcUrl = value;
+            case "db-username" -> dbUsername = value;
+            case "db-password" -> dbPassword = value;
+            case "skip-seed" -> skipSeed = Boolean.parseBoolean(value);
+            case "search-backend" -> searchBackend = value;
+            case "companies" -> companies = Integer.parseInt(value);
+            case "users-per-company" -> usersPerCompany = Integer.parseInt(value);
+            case "projects-per-company" -> projectsPerCompany = Integer.parseInt(value);
+            case "sprints-per-project" -> sprintsPerProject = Integer.parseInt(value);
+            case "tasks" -> tasks = Integer.parseInt(value);
+            case "comments-per-task" -> commentsPerTask = Double.parseDouble(value);
+            case "project-skew" -> projectSkew = Double.parseDouble(value);
+            case "comment-skew" -> commentSkew = Double.parseDouble(value);
+            case "seed" -> seed = Long.parseLong(value);
+            case "concurrency" -> concurrency = Integer.parseInt(value);
+            case "warmup-seconds" -> warmupSeconds = Integer.parseInt(value);
+            case "duration-seconds" -> durationSeconds = Integer.parseInt(value);
+            case "sessions-per-company" -> sessionsPerCompany = Integer.parseInt(value);
+            case "report" -> report = value;
+            case "baseline" -> baseline = value;
+            default -> throw new IllegalArgumentException("Unknown option --" + name);
+        }
+    }
+
+    // Recorded in the report so two runs can be checked for comparability
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("database", jdbcUrl != null ? jdbcUrl : "embedded");
+        description.put("searchBackend", searchBackend);
+        description.put("companies", companies);
+        description.put("usersPerCompany", usersPerCompany);
+        description.put("projectsPerCompany", projectsPerCompany);
+        description.put("sprintsPerProject", sprintsPerProject);
+        description.put("tasks", tasks);
+        description.put("commentsPerTask", commentsPerTask);
+        description.put("projectSkew", projectSkew);
+        description.put("commentSkew", commentSkew);
+        description.put("seed", seed);
+        description.put("concurrency", concurrency);
+        description.put("warmupSeconds", warmupSeconds);
+        description.put("durationSeconds", durationSeconds);
+        return description;
+    }
+}
@@ -0,0 +1,80 @@
+package com.agilepm.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// JSON report with stable key order, so two runs can be compared with a plain diff,
+// plus a console table and an optional comparison against a baseline report
+class LoadTestReport {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestOptions options, Dataset dataset, LatencyRecorder recorder) {
+        double elapsedSeconds = options.durationSeconds;
+        report.put("generatedAt", Instant.now().toString());
+        report.put("options", options.describe());
+        report.put("dataset", dataset.describe());
+        report.put("total", recorder.summarizeAll(elapsedSeconds));
+        report.put("endpoints", recorder.summarize(elapsedSeconds));
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writeValue(path.toFile(), report);
+    }
+
+    @SuppressWarnings("unchecked")
+    void print(PrintStream out) {
+        out.printf("%-42s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+        endpoints.forEach((endpoint, stats) -> printRow(out, endpoint, stats));
+        printRow(out, "TOTAL", (Map<String, Object>) report.get("total"));
+    }
+
+    // Relative change per endpoint against an earlier report; positive latency deltas are regressions
+    @SuppressWarnings("unchecked")
+    void compare(Path baselinePath, PrintStream out) throws IOException {
+        JsonNode baseline = objectMapper.readTree(baselinePath.toFile()).path("endpoints");
+        Map<String, Map<String, Object>> endpoints = (Map<String, Map<String, Object>>) report.get("endpoints");
+
+        out.printf("%nCompared with %s%n", baselinePath);
+        out.printf("%-42s %12s %12s %12s%n", "endpoint", "p50", "p99", "req/s");
+        endpoints.forEach((endpoint, stats) -> {
+            JsonNode before = baseline.path(endpoint);
+            if (before.isMissingNode()) {
+                out.printf("%-42s %12s%n", endpoint, "new");
+                return;
+            }
+            out.printf("%-42s %12s %12s %12s%n",
+                endpoint,
+                delta(before.path("p50Ms").asDouble(), (Double) stats.get("p50Ms")),
+                delta(before.path("p99Ms").asDouble(), (Double) stats.get("p99Ms")),
+                delta(before.path("throughputPerSecond").asDouble(), (Double) stats.get("throughputPerSecond")));
+        });
+    }
+
+    private static void printRow(PrintStream out, String endpoint, Map<String, Object> stats) {
+        out.printf("%-42s %9s %7s %10s %9s %9s %9s%n",
+            endpoint, stats.get("requests"), stats.get("errors"), stats.get("throughputPerSecond"),
+            stats.get("p50Ms"), stats.get("p99Ms"), stats.get("maxMs"));
+    }
+
+    private static String delta(double before, double after) {
+        if (before == 0) {
+            return "n/a";
+        }
+        return String.format("%+.1f%%", (after - before) / before * 100);
+    }
+}
@@ -0,0 +1,191 @@
+package com.agilepm.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Closed-loop workload: each worker repeatedly picks a weighted operation, sends it as a
+// random session of the project's company and records the latency under the route template
+class WorkloadDriver {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "REVIEW", "DONE"};
+
+    // Matched against the seeder's task and comment text; valid syntax for both search backends
+    private static final String[] SEARCH_QUERIES = {
+        "edge cases", "\"real ticket\"", "generated description", "double check -looks", "resemble body"
+    };
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final String baseUrl;
+    private final Dataset dataset;
+    private final List<List<Session>> sessions;
+    private final LoadTestOptions options;
+    private final List<Operation> operations = new ArrayList<>();
+    private int totalWeight;
+
+    record Session(long userId, String token) {}
+
+    private record Target(Session session, int project, Random random) {}
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest.Builder create(Target target);
+    }
+
+    // rejectionsExpected: 4xx answers are a normal outcome (e.g. a move the workflow forbids)
+    private record Operation(String endpoint, int weight, boolean rejectionsExpected, RequestFactory factory) {}
+
+    WorkloadDriver(String baseUrl, Dataset dataset, List<List<Session>> sessions, LoadTestOptions options) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.sessions = sessions;
+        this.options = options;
+
+        // Read-heavy mix, roughly what the web client issues while people work a board
+        add("GET /api/tasks", 8, t -> get("/api/tasks?limit=50"));
+        add("GET /api/tasks/{taskId}", 20, t -> get("/api/tasks/" + task(t)));
+        add("GET /api/tasks/project/{projectId}", 12, t -> get("/api/tasks/project/" + project(t) + "?limit=50"));
+        add("GET /api/projects/{projectId}/tasks", 4, t -> get("/api/projects/" + project(t) + "/tasks"));
+        add("GET /api/projects/{projectId}/board", 15, t -> get("/api/projects/" + project(t) + "/board"));
+        add("GET /api/tasks/filter", 8, t -> get("/api/tasks/filter?projectId=" + project(t)
+            + "&status=" + STATUSES[t.random().nextInt(STATUSES.length)] + "&limit=50"));
+        add("GET /api/tasks/{taskId}/comments", 12, t -> get("/api/tasks/" + task(t) + "/comments?limit=20"));
+        add("GET /api/search", 5, t -> get("/api/search?q="
+            + URLEncoder.encode(SEARCH_QUERIES[t.random().nextInt(SEARCH_QUERIES.length)], StandardCharsets.UTF_8)
+            + "&limit=20"));
+        add("GET /api/sprints/{sprintId}/burndown", 4, t -> get("/api/sprints/" + sprint(t) + "/burndown"));
+        // Random targets: moves the project's workflow or a WIP limit rejects still cost a round trip
+        add("PATCH /api/tasks/{taskId}/status", 10, true, t -> send("PATCH", "/api/tasks/" + task(t)
+            + "/status?newStatus=" + STATUSES[t.random().nextInt(STATUSES.length)]));
+        add("POST /api/tasks/{taskId}/comments", 7, t -> send("POST", "/api/tasks/" + task(t)
+            + "/comments?userId=" + t.session().userId() + "&message=load+test+comment"));
+    }
+
+    LatencyRecorder run() throws Exception {
+        int workers = options.concurrency;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            long warmupEnd = System.nanoTime() + Duration.ofSeconds(options.warmupSeconds).toNanos();
+            long end = warmupEnd + Duration.ofSeconds(options.durationSeconds).toNanos();
+
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                long workerSeed = options.seed * 31 + w;
+                futures.add(executor.submit(() -> work(new Random(workerSeed), warmupEnd, end)));
+            }
+
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> future : futures) {
+                merged.merge(future.get());
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Runs as the first company's admin; returns the number of documents indexed
+    long rebuildSearchIndex() throws Exception {
+        Session admin = sessions.get(0).get(0);
+        HttpRequest request = send("POST", "/api/search/rebuild")
+            .header("Authorization", "Bearer " + admin.token())
+            .timeout(Duration.ofMinutes(30))
+            .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Search rebuild failed: HTTP " + response.statusCode());
+        }
+        String body = response.body();
+        return Long.parseLong(body.replaceAll("[^0-9]", ""));
+    }
+
+    private LatencyRecorder work(Random random, long warmupEnd, long end) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        while (System.nanoTime() < end) {
+            Operation operation = pick(random);
+            int project = dataset.projectSampler.sample(random);
+            List<Session> companySessions = sessions.get(dataset.projectCompany[project]);
+            Session session = companySessions.get(random.nextInt(companySessions.size()));
+
+            HttpRequest request = operation.factory().create(new Target(session, project, random))
+                .header("Authorization", "Bearer " + session.token())
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                int status = response.statusCode();
+                error = status >= 500 || (status >= 400 && !operation.rejectionsExpected());
+            } catch (Exception e) {
+                error = true;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (start >= warmupEnd) {
+                recorder.record(operation.endpoint(), elapsed, error);
+            }
+        }
+        return recorder;
+    }
+
+    private void add(String endpoint, int weight, RequestFactory factory) {
+        add(endpoint, weight, false, factory);
+    }
+
+    private void add(String endpoint, int weight, boolean rejectionsExpected, RequestFactory factory) {
+        operations.add(new Operation(endpoint, weight, rejectionsExpected, factory));
+        totalWeight += weight;
+    }
+
+    private Operation pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder send(String method, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).method(method, HttpRequest.BodyPublishers.noBody());
+    }
+
+    private long project(Target target) {
+        return dataset.projectIds[target.project()];
+    }
+
+    // Falls back to the hottest project when the picked one has no tasks
+    private long task(Target target) {
+        long[] tasks = dataset.projectTaskIds[target.project()];
+        if (tasks.length == 0) {
+            tasks = dataset.projectTaskIds[0];
+        }
+        return tasks[target.random().nextInt(tasks.length)];
+    }
+
+    private long sprint(Target target) {
+        long[] sprints = dataset.projectSprintIds[target.project()];
+        return sprints.length > 0 ? sprints[sprints.length - 1] : 0;
+    }
+}
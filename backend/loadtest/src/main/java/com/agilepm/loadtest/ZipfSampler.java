@@ -0,0 +1,29 @@
+package com.agilepm.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Draws indexes in [0, n) with probability proportional to 1 / (rank + 1)^exponent,
+// so a few items receive most of the traffic, like hot projects and tickets do
+class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.agilepm.archive;
+
+import com.agilepm.model.AuditLog;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+// On-disk layout of an audit segment: one immutable file per UTC day.
+//
+//   header   MAGIC (long), VERSION (int)
+//   blocks   deflate-compressed, each holding up to block-rows rows in
+//            (timestamp, id) order, stored column by column:
+//              rowCount, ids[], timestamps[] (epoch micros),
+//              then per string column a dictionary and one code per row (-1 = null)
+//   footer   blockCount, then per block: offset, compressed length, raw length,
+//            row count, min/max timestamp and the distinct usernames in the block
+//   trailer  footer offset (long), MAGIC (long)
+//
+// The footer is the sparse index: readers skip blocks by time range and username
+// before inflating anything.
+public final class AuditSegmentFormat {
+
+    public static final long MAGIC = 0x4147504D41554431L; // "AGPMAUD1"
+    public static final int VERSION = 1;
+    public static final int HEADER_LENGTH = Long.BYTES + Integer.BYTES;
+    public static final int TRAILER_LENGTH = Long.BYTES + Long.BYTES;
+
+    // Number of dictionary-encoded string columns per block, in write order
+    static final int STRING_COLUMNS = 7;
+
+    private static final String FILE_PREFIX = "audit-";
+    private static final String FILE_SUFFIX = ".seg";
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private AuditSegmentFormat() {}
+
+    public static String fileName(LocalDate day) {
+        return FILE_PREFIX + day.format(FILE_DATE) + FILE_SUFFIX;
+    }
+
+    // Returns null for files that are not segments
+    public static LocalDate parseFileName(String fileName) {
+        if (!fileName.startsWith(FILE_PREFIX) || !fileName.endsWith(FILE_SUFFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(
+                fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()),
+                FILE_DATE
+            );
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    public static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    public static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    static String[] stringColumns(AuditLog auditLog) {
+        return new String[] {
+            auditLog.getUsername(),
+            auditLog.getAction(),
+            auditLog.getEntityType(),
+            auditLog.getEntityId(),
+            auditLog.getDetails(),
+            auditLog.getIpAddress(),
+            auditLog.getStatus() != null ? auditLog.getStatus().name() : null
+        };
+    }
+}
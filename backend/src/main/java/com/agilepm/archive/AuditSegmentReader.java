@@ -0,0 +1,195 @@
+package com.agilepm.archive;
+
+import com.agilepm.model.AuditLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// Read-only view of a segment file. The file is memory-mapped once and the footer
+// parsed up front; blocks are inflated on demand, straight from the mapping.
+public class AuditSegmentReader {
+
+    private final Path path;
+    private final MappedByteBuffer mapped;
+    private final BlockIndex[] blocks;
+
+    private AuditSegmentReader(Path path, MappedByteBuffer mapped, BlockIndex[] blocks) {
+        this.path = path;
+        this.mapped = mapped;
+        this.blocks = blocks;
+    }
+
+    public static AuditSegmentReader open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int size = mapped.capacity();
+        if (size < AuditSegmentFormat.HEADER_LENGTH + AuditSegmentFormat.TRAILER_LENGTH
+                || mapped.getLong(0) != AuditSegmentFormat.MAGIC
+                || mapped.getLong(size - Long.BYTES) != AuditSegmentFormat.MAGIC) {
+            throw new IOException("Not an audit segment: " + path);
+        }
+        if (mapped.getInt(Long.BYTES) != AuditSegmentFormat.VERSION) {
+            throw new IOException("Unsupported audit segment version: " + path);
+        }
+
+        int footerOffset = (int) mapped.getLong(size - AuditSegmentFormat.TRAILER_LENGTH);
+        byte[] footer = new byte[size - AuditSegmentFormat.TRAILER_LENGTH - footerOffset];
+        mapped.get(footerOffset, footer);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer));
+        BlockIndex[] blocks = new BlockIndex[in.readInt()];
+        for (int i = 0; i < blocks.length; i++) {
+            long offset = in.readLong();
+            int compressedLength = in.readInt();
+            int rawLength = in.readInt();
+            int rowCount = in.readInt();
+            long minTimestamp = in.readLong();
+            long maxTimestamp = in.readLong();
+            Set<String> usernames = new HashSet<>();
+            int usernameCount = in.readInt();
+            for (int u = 0; u < usernameCount; u++) {
+                usernames.add(in.readUTF());
+            }
+            blocks[i] = new BlockIndex(
+                (int) offset, compressedLength, rawLength, rowCount, minTimestamp, maxTimestamp, usernames
+            );
+        }
+
+        return new AuditSegmentReader(path, mapped, blocks);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Visits rows with timestamp in [from, to) (either bound may be null), in
+     * (timestamp, id) order or its reverse. Blocks are skipped using the footer
+     * index; the visitor returns false to stop the scan.
+     */
+    public boolean scan(Instant from, Instant to, String username, boolean newestFirst, Predicate<AuditLog> visitor)
+            throws IOException {
+        long fromMicros = from != null ? AuditSegmentFormat.toMicros(from) : Long.MIN_VALUE;
+        long toMicros = to != null ? AuditSegmentFormat.toMicros(to) : Long.MAX_VALUE;
+
+        for (int b = 0; b < blocks.length; b++) {
+            BlockIndex block = blocks[newestFirst ? blocks.length - 1 - b : b];
+            if (block.maxTimestamp < fromMicros || block.minTimestamp >= toMicros) {
+                continue;
+            }
+            if (username != null && !block.usernames.contains(username)) {
+                continue;
+            }
+
+            AuditLog[] rows = readBlock(block);
+            for (int r = 0; r < rows.length; r++) {
+                AuditLog row = rows[newestFirst ? rows.length - 1 - r : r];
+                long micros = AuditSegmentFormat.toMicros(row.getTimestamp());
+                if (micros < fromMicros || micros >= toMicros) {
+                    continue;
+                }
+                if (username != null && !username.equals(row.getUsername())) {
+                    continue;
+                }
+                if (!visitor.test(row)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private AuditLog[] readBlock(BlockIndex block) throws IOException {
+        byte[] raw = new byte[block.rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            ByteBuffer compressed = mapped.slice(block.offset, block.compressedLength);
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, raw.length - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != raw.length) {
+                throw new IOException("Truncated audit segment block in " + path);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt audit segment block in " + path, e);
+        } finally {
+            inflater.end();
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+        int rows = in.readInt();
+        long[] ids = new long[rows];
+        long[] timestamps = new long[rows];
+        for (int r = 0; r < rows; r++) {
+            ids[r] = in.readLong();
+        }
+        for (int r = 0; r < rows; r++) {
+            timestamps[r] = in.readLong();
+        }
+
+        String[][] columns = new String[AuditSegmentFormat.STRING_COLUMNS][];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = readDictionaryColumn(in, rows);
+        }
+
+        AuditLog[] result = new AuditLog[rows];
+        for (int r = 0; r < rows; r++) {
+            AuditLog auditLog = new AuditLog();
+            auditLog.setId(ids[r]);
+            auditLog.setTimestamp(AuditSegmentFormat.fromMicros(timestamps[r]));
+            auditLog.setUsername(columns[0][r]);
+            auditLog.setAction(columns[1][r]);
+            auditLog.setEntityType(columns[2][r]);
+            auditLog.setEntityId(columns[3][r]);
+            auditLog.setDetails(columns[4][r]);
+            auditLog.setIpAddress(columns[5][r]);
+            auditLog.setStatus(columns[6][r] != null ? AuditLog.AuditLogStatus.valueOf(columns[6][r]) : null);
+            result[r] = auditLog;
+        }
+        return result;
+    }
+
+    private static String[] readDictionaryColumn(DataInputStream in, int rows) throws IOException {
+        String[] dictionary = new String[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = in.readUTF();
+        }
+        String[] values = new String[rows];
+        for (int r = 0; r < rows; r++) {
+            int code = in.readInt();
+            values[r] = code >= 0 ? dictionary[code] : null;
+        }
+        return values;
+    }
+
+    private record BlockIndex(
+        int offset,
+        int compressedLength,
+        int rawLength,
+        int rowCount,
+        long minTimestamp,
+        long maxTimestamp,
+        Set<String> usernames
+    ) {}
+}
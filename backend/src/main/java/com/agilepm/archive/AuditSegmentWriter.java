@@ -0,0 +1,193 @@
+package com.agilepm.archive;
+
+import com.agilepm.model.AuditLog;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.Deflater;
+
+// Writes one segment file. Rows must be appended in (timestamp, id) order; the file
+// is built under a temporary name and only moved into place once fully synced, so a
+// segment that exists on disk is always complete.
+public class AuditSegmentWriter implements Closeable {
+
+    private final Path target;
+    private final Path tempFile;
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final int blockRows;
+    private final Deflater deflater = new Deflater();
+    private final List<AuditLog> pending = new ArrayList<>();
+    private final ByteArrayOutputStream footer = new ByteArrayOutputStream();
+    private final DataOutputStream footerOut = new DataOutputStream(footer);
+
+    private long position;
+    private int blockCount;
+    private long rowCount;
+    private boolean finished;
+
+    public AuditSegmentWriter(Path target, int blockRows) throws IOException {
+        this.target = target;
+        this.tempFile = target.resolveSibling(target.getFileName() + ".tmp");
+        this.blockRows = blockRows;
+        this.channel = FileChannel.open(
+            tempFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        OutputStream channelOut = Channels.newOutputStream(channel);
+        this.out = new DataOutputStream(new BufferedOutputStream(channelOut, 64 * 1024));
+
+        out.writeLong(AuditSegmentFormat.MAGIC);
+        out.writeInt(AuditSegmentFormat.VERSION);
+        position = AuditSegmentFormat.HEADER_LENGTH;
+    }
+
+    public void append(AuditLog auditLog) throws IOException {
+        pending.add(auditLog);
+        rowCount++;
+        if (pending.size() >= blockRows) {
+            writeBlock();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // Writes the footer, syncs and atomically publishes the segment
+    public void finish() throws IOException {
+        if (!pending.isEmpty()) {
+            writeBlock();
+        }
+
+        long footerOffset = position;
+        out.writeInt(blockCount);
+        footer.writeTo(out);
+        out.writeLong(footerOffset);
+        out.writeLong(AuditSegmentFormat.MAGIC);
+        out.flush();
+        channel.force(true);
+        channel.close();
+        deflater.end();
+
+        Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        finished = true;
+    }
+
+    // Abandons an unfinished segment; the target file is never touched
+    @Override
+    public void close() throws IOException {
+        if (finished) {
+            return;
+        }
+        deflater.end();
+        channel.close();
+        Files.deleteIfExists(tempFile);
+    }
+
+    private void writeBlock() throws IOException {
+        int rows = pending.size();
+        ByteArrayOutputStream raw = new ByteArrayOutputStream(rows * 64);
+        DataOutputStream block = new DataOutputStream(raw);
+
+        block.writeInt(rows);
+        for (AuditLog auditLog : pending) {
+            block.writeLong(auditLog.getId());
+        }
+        for (AuditLog auditLog : pending) {
+            block.writeLong(AuditSegmentFormat.toMicros(auditLog.getTimestamp()));
+        }
+
+        String[][] values = new String[rows][];
+        for (int row = 0; row < rows; row++) {
+            values[row] = AuditSegmentFormat.stringColumns(pending.get(row));
+        }
+        for (int column = 0; column < AuditSegmentFormat.STRING_COLUMNS; column++) {
+            writeDictionaryColumn(block, values, column);
+        }
+        block.flush();
+
+        byte[] compressed = compress(raw.toByteArray());
+        out.write(compressed);
+
+        TreeSet<String> usernames = new TreeSet<>();
+        for (AuditLog auditLog : pending) {
+            usernames.add(auditLog.getUsername());
+        }
+
+        footerOut.writeLong(position);
+        footerOut.writeInt(compressed.length);
+        footerOut.writeInt(raw.size());
+        footerOut.writeInt(rows);
+        footerOut.writeLong(AuditSegmentFormat.toMicros(pending.get(0).getTimestamp()));
+        footerOut.writeLong(AuditSegmentFormat.toMicros(pending.get(rows - 1).getTimestamp()));
+        footerOut.writeInt(usernames.size());
+        for (String username : usernames) {
+            footerOut.writeUTF(username);
+        }
+
+        position += compressed.length;
+        blockCount++;
+        pending.clear();
+    }
+
+    private static void writeDictionaryColumn(DataOutputStream block, String[][] values, int column) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> entries = new ArrayList<>();
+        int[] codes = new int[values.length];
+
+        for (int row = 0; row < values.length; row++) {
+            String value = values[row][column];
+            if (value == null) {
+                codes[row] = -1;
+                continue;
+            }
+            Integer code = dictionary.get(value);
+            if (code == null) {
+                code = entries.size();
+                dictionary.put(value, code);
+                entries.add(value);
+            }
+            codes[row] = code;
+        }
+
+        block.writeInt(entries.size());
+        for (String entry : entries) {
+            block.writeUTF(entry);
+        }
+        for (int code : codes) {
+            block.writeInt(code);
+        }
+    }
+
+    private byte[] compress(byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,80 @@
+package com.agilepm.config;
+
+import com.agilepm.metrics.SqlStatementCounter;
+import com.agilepm.security.JwtPrincipalCache;
+import com.agilepm.service.AuditLogWriter;
+import com.agilepm.service.ProjectEventBroadcaster;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Bean
+    public MeterBinder jwtPrincipalCacheMetrics(JwtPrincipalCache principalCache) {
+        return registry -> {
+            Gauge.builder("jwt.principal.cache.size", principalCache, JwtPrincipalCache::size)
+                .description("Cached authenticated principals")
+                .register(registry);
+            FunctionCounter.builder("jwt.principal.cache.requests", principalCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+            FunctionCounter.builder("jwt.principal.cache.requests", principalCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+            FunctionCounter.builder("jwt.principal.cache.evictions", principalCache, cache -> cache.stats().evictionCount())
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder auditLogWriterMetrics(AuditLogWriter auditLogWriter) {
+        return registry -> {
+            Gauge.builder("audit.writer.queue.depth", auditLogWriter, AuditLogWriter::getQueueDepth)
+                .description("Audit log entries waiting to be written")
+                .register(registry);
+            FunctionCounter.builder("audit.writer.entries", auditLogWriter, AuditLogWriter::getWrittenCount)
+                .tag("outcome", "written")
+                .register(registry);
+            FunctionCounter.builder("audit.writer.entries", auditLogWriter, AuditLogWriter::getDroppedCount)
+                .tag("outcome", "dropped")
+                .register(registry);
+            FunctionCounter.builder("audit.writer.entries", auditLogWriter, AuditLogWriter::getFailedCount)
+                .tag("outcome", "failed")
+                .register(registry);
+            FunctionCounter.builder("audit.writer.flushes", auditLogWriter, AuditLogWriter::getFlushCount)
+                .register(registry);
+            FunctionCounter.builder("audit.writer.flush.time", auditLogWriter,
+                    writer -> writer.getFlushTotalNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                .baseUnit("seconds")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder projectEventMetrics(ProjectEventBroadcaster broadcaster) {
+        return registry -> {
+            Gauge.builder("project.events.subscribers", broadcaster, ProjectEventBroadcaster::getSubscriberCount)
+                .description("Open board event streams")
+                .register(registry);
+            FunctionCounter.builder("project.events.delivered", broadcaster, ProjectEventBroadcaster::getDeliveredCount)
+                .description("Events and heartbeats written to subscribers")
+                .register(registry);
+            FunctionCounter.builder("project.events.evictions", broadcaster, ProjectEventBroadcaster::getEvictedCount)
+                .description("Subscribers disconnected for falling behind")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.agilepm.controller;
+
+import com.agilepm.dto.AuditLogDTO;
+import com.agilepm.dto.CursorPage;
+import com.agilepm.model.AuditLog;
+import com.agilepm.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/audit")
+@Tag(name = "Audit Logs", description = "Endpoints for searching audit logs")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    @Autowired
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search audit logs", description = "Filter audit logs, newest first, with cursor pagination")
+    public ResponseEntity<CursorPage<AuditLogDTO>> searchAuditLogs(
+        @RequestParam(required = false) String username,
+        @RequestParam(required = false) String action,
+        @RequestParam(required = false) String entityType,
+        @RequestParam(required = false) String entityId,
+        @RequestParam(required = false) AuditLog.AuditLogStatus status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<AuditLogDTO> auditLogs = auditService.searchAuditLogs(
+            username, action, entityType, entityId, status, from, to, cursor, limit
+        );
+        return ResponseEntity.ok(auditLogs);
+    }
+}
@@ -5,6 +5,7 @@ import com.agilepm.exception.TokenRefreshException;
 import com.agilepm.model.RefreshToken;
 import com.agilepm.model.User;
 import com.agilepm.security.JwtTokenProvider;
+import com.agilepm.security.TokenRevocationRegistry;
 import com.agilepm.service.RefreshTokenService;
 import com.agilepm.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,18 +32,21 @@ public class AuthController {
     private final JwtTokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
     private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationRegistry revocationRegistry;
 
     @Autowired
     public AuthController(
         UserService userService,
         JwtTokenProvider tokenProvider,
         AuthenticationManager authenticationManager,
-        RefreshTokenService refreshTokenService
+        RefreshTokenService refreshTokenService,
+        TokenRevocationRegistry revocationRegistry
     ) {
         this.userService = userService;
         this.tokenProvider = tokenProvider;
         this.authenticationManager = authenticationManager;
         this.refreshTokenService = refreshTokenService;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @PostMapping("/signup")
@@ -119,9 +123,12 @@ public class AuthController {
     public ResponseEntity<Void> logout(
         @RequestParam String refreshToken
     ) {
-        // Delete the refresh token
+        // Delete the refresh token and revoke access tokens already issued
         refreshTokenService.findByToken(refreshToken)
-            .ifPresent(token -> refreshTokenService.deleteByUserId(token.getUser().getId()));
+            .ifPresent(token -> {
+                refreshTokenService.deleteByUserId(token.getUser().getId());
+                revocationRegistry.revokeUser(token.getUser().getEmail());
+            });
 
         return ResponseEntity.noContent().build();
     }
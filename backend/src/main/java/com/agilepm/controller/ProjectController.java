@@ -1,15 +1,24 @@
 package com.agilepm.controller;
 
+import com.agilepm.dto.BoardDTO;
+import com.agilepm.dto.CursorPage;
 import com.agilepm.dto.ProjectDTO;
 import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.UnauthorizedException;
+import com.agilepm.model.Task;
+import com.agilepm.service.CompanyScopeService;
+import com.agilepm.service.ProjectEventBroadcaster;
 import com.agilepm.service.ProjectService;
+import com.agilepm.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -19,10 +28,21 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskService taskService;
+    private final CompanyScopeService companyScopeService;
+    private final ProjectEventBroadcaster projectEventBroadcaster;
 
     @Autowired
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(
+        ProjectService projectService,
+        TaskService taskService,
+        CompanyScopeService companyScopeService,
+        ProjectEventBroadcaster projectEventBroadcaster
+    ) {
         this.projectService = projectService;
+        this.taskService = taskService;
+        this.companyScopeService = companyScopeService;
+        this.projectEventBroadcaster = projectEventBroadcaster;
     }
 
     @PostMapping
@@ -79,6 +99,53 @@ public class ProjectController {
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/{projectId}/board")
+    @Operation(summary = "Get project board", description = "Retrieve per-status columns with counts and the first cards of each column")
+    public ResponseEntity<BoardDTO> getProjectBoard(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) Integer cardsPerColumn
+    ) {
+        BoardDTO board = projectService.getProjectBoard(projectId, cardsPerColumn);
+        return ResponseEntity.ok(board);
+    }
+
+    @GetMapping(value = "/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream board changes",
+        description = "Server-Sent Events with task and comment deltas for the project; load the board after the ready event"
+    )
+    public SseEmitter streamProjectEvents(@PathVariable Long projectId) {
+        ProjectDTO project = projectService.getProjectById(projectId);
+        Long companyId = companyScopeService.currentCompanyId();
+        if (companyId != null && !companyId.equals(project.getCompanyId())) {
+            throw UnauthorizedException.insufficientPermissions("subscribe to project events");
+        }
+        return projectEventBroadcaster.subscribe(projectId);
+    }
+
+    @GetMapping("/{projectId}/board/columns/{status}")
+    @Operation(summary = "Get board column page", description = "Retrieve the next page of cards for one board column")
+    public ResponseEntity<CursorPage<TaskDTO>> getBoardColumn(
+        @PathVariable Long projectId,
+        @PathVariable Task.TaskStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> cards = taskService.filterTasks(projectId, null, status, null, cursor, limit);
+        return ResponseEntity.ok(cards);
+    }
+
+    @PutMapping("/{projectId}/board/columns/{status}/wip-limit")
+    @Operation(summary = "Set column WIP limit", description = "Set or clear (no limit parameter) the WIP limit of a board column; enforced for Kanban projects")
+    public ResponseEntity<Void> setColumnWipLimit(
+        @PathVariable Long projectId,
+        @PathVariable Task.TaskStatus status,
+        @RequestParam(required = false) Integer limit
+    ) {
+        projectService.setColumnWipLimit(projectId, status, limit);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/{projectId}/manager")
     @Operation(summary = "Assign project manager", description = "Assign a user as the project manager")
     public ResponseEntity<ProjectDTO> assignProjectManager(
@@ -0,0 +1,48 @@
+package com.agilepm.controller;
+
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.SearchHitDTO;
+import com.agilepm.service.CompanyScopeService;
+import com.agilepm.service.TaskSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Search", description = "Full-text search over tasks and comments")
+public class SearchController {
+
+    private final TaskSearchService taskSearchService;
+    private final CompanyScopeService companyScopeService;
+
+    @Autowired
+    public SearchController(TaskSearchService taskSearchService, CompanyScopeService companyScopeService) {
+        this.taskSearchService = taskSearchService;
+        this.companyScopeService = companyScopeService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Search tasks and comments", description = "Ranked, highlighted matches within the caller's company")
+    public ResponseEntity<CursorPage<SearchHitDTO>> search(
+        @RequestParam("q") String query,
+        @RequestParam(required = false) Long projectId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        Long companyId = companyScopeService.currentCompanyId();
+        CursorPage<SearchHitDTO> hits = taskSearchService.search(query, companyId, projectId, cursor, limit);
+        return ResponseEntity.ok(hits);
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild search index", description = "Re-index every task and comment from the database")
+    public ResponseEntity<Map<String, Long>> rebuildIndex() {
+        long indexed = taskSearchService.rebuildIndex();
+        return ResponseEntity.ok(Map.of("indexed", indexed));
+    }
+}
@@ -0,0 +1,45 @@
+package com.agilepm.controller;
+
+import com.agilepm.dto.BurndownPointDTO;
+import com.agilepm.dto.SprintVelocityDTO;
+import com.agilepm.service.SprintMetricsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sprints")
+@Tag(name = "Sprint Metrics", description = "Endpoints for sprint burndown and velocity")
+public class SprintController {
+
+    private static final int MAX_VELOCITY_SPRINTS = 50;
+
+    private final SprintMetricsService sprintMetricsService;
+
+    @Autowired
+    public SprintController(SprintMetricsService sprintMetricsService) {
+        this.sprintMetricsService = sprintMetricsService;
+    }
+
+    @GetMapping("/{sprintId}/burndown")
+    @Operation(summary = "Get sprint burndown", description = "Retrieve daily remaining and completed task counts for a sprint")
+    public ResponseEntity<List<BurndownPointDTO>> getBurndown(@PathVariable Long sprintId) {
+        List<BurndownPointDTO> burndown = sprintMetricsService.getBurndown(sprintId);
+        return ResponseEntity.ok(burndown);
+    }
+
+    @GetMapping("/project/{projectId}/velocity")
+    @Operation(summary = "Get project velocity", description = "Retrieve completed task counts for the last N completed sprints")
+    public ResponseEntity<List<SprintVelocityDTO>> getProjectVelocity(
+        @PathVariable Long projectId,
+        @RequestParam(defaultValue = "5") int sprints
+    ) {
+        int sprintCount = Math.max(1, Math.min(sprints, MAX_VELOCITY_SPRINTS));
+        List<SprintVelocityDTO> velocity = sprintMetricsService.getProjectVelocity(projectId, sprintCount);
+        return ResponseEntity.ok(velocity);
+    }
+}
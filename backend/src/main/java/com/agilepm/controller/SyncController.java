@@ -0,0 +1,39 @@
+package com.agilepm.controller;
+
+import com.agilepm.dto.SyncDTO;
+import com.agilepm.service.CompanyScopeService;
+import com.agilepm.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/sync")
+@Tag(name = "Sync", description = "Incremental sync for offline and mobile clients")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final CompanyScopeService companyScopeService;
+
+    @Autowired
+    public SyncController(SyncService syncService, CompanyScopeService companyScopeService) {
+        this.syncService = syncService;
+        this.companyScopeService = companyScopeService;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Changes since a watermark",
+        description = "Tasks, comments and sprints changed and rows deleted since the watermark, with the new watermark; omit since for a full sync"
+    )
+    public ResponseEntity<SyncDTO> sync(
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false) Integer limit
+    ) {
+        Long companyId = companyScopeService.currentCompanyId();
+        SyncDTO changes = syncService.changesSince(since, companyId, limit);
+        return ResponseEntity.ok(changes);
+    }
+}
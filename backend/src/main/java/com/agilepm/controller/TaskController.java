@@ -1,16 +1,22 @@
 package com.agilepm.controller;
 
 import com.agilepm.dto.CommentDTO;
+import com.agilepm.dto.CursorPage;
 import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.BusinessValidationException;
 import com.agilepm.model.Task;
 import com.agilepm.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,6 +25,9 @@ import java.util.List;
 @Tag(name = "Task Management", description = "Endpoints for managing tasks")
 public class TaskController {
 
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+
     private final TaskService taskService;
 
     @Autowired
@@ -32,31 +41,71 @@ public class TaskController {
         @Valid @RequestBody TaskDTO taskDTO
     ) {
         TaskDTO createdTask = taskService.createTask(taskDTO);
-        return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .eTag(eTag(createdTask))
+            .body(createdTask);
+    }
+
+    @PostMapping("/bulk")
+    @Operation(summary = "Create tasks in bulk", description = "Create many tasks in one request, e.g. a backlog import")
+    public ResponseEntity<List<TaskDTO>> createTasks(@RequestBody List<TaskDTO> taskDTOs) {
+        List<TaskDTO> createdTasks = taskService.createTasks(taskDTOs);
+        return new ResponseEntity<>(createdTasks, HttpStatus.CREATED);
+    }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "Update tasks in bulk", description = "Apply the non-null fields of each task, matched by id")
+    public ResponseEntity<List<TaskDTO>> updateTasks(@RequestBody List<TaskDTO> taskDTOs) {
+        List<TaskDTO> updatedTasks = taskService.updateTasks(taskDTOs);
+        return ResponseEntity.ok(updatedTasks);
     }
 
     @GetMapping
-    @Operation(summary = "Get all tasks", description = "Retrieve a list of all tasks")
-    public ResponseEntity<List<TaskDTO>> getAllTasks() {
-        List<TaskDTO> tasks = taskService.getAllTasks();
+    @Operation(summary = "Get all tasks", description = "Retrieve a page of tasks ordered by id")
+    public ResponseEntity<CursorPage<TaskDTO>> getAllTasks(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> tasks = taskService.getAllTasks(cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    @Operation(summary = "Export tasks", description = "Stream all tasks as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        StreamingResponseBody body = taskService::exportTasks;
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+            .body(body);
+    }
+
     @GetMapping("/{taskId}")
     @Operation(summary = "Get task by ID", description = "Retrieve a specific task by its ID")
     public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long taskId) {
         TaskDTO task = taskService.getTaskById(taskId);
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(eTag(task)).body(task);
     }
 
     @PutMapping("/{taskId}")
-    @Operation(summary = "Update task", description = "Update task details")
+    @Operation(summary = "Update task", description = "Update task details; send If-Match with the ETag to avoid lost updates")
     public ResponseEntity<TaskDTO> updateTask(
         @PathVariable Long taskId, 
-        @Valid @RequestBody TaskDTO taskDTO
+        @Valid @RequestBody TaskDTO taskDTO,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        TaskDTO updatedTask = taskService.updateTask(taskId, taskDTO);
-        return ResponseEntity.ok(updatedTask);
+        TaskDTO updatedTask = taskService.updateTask(taskId, taskDTO, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updatedTask)).body(updatedTask);
+    }
+
+    @PatchMapping(value = "/{taskId}", consumes = MERGE_PATCH_MEDIA_TYPE)
+    @Operation(summary = "Patch task", description = "Apply a JSON Merge Patch (RFC 7396) to a task")
+    public ResponseEntity<TaskDTO> patchTask(
+        @PathVariable Long taskId,
+        @RequestBody JsonNode mergePatch,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        TaskDTO patchedTask = taskService.patchTask(taskId, mergePatch, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(patchedTask)).body(patchedTask);
     }
 
     @DeleteMapping("/{taskId}")
@@ -67,30 +116,60 @@ public class TaskController {
     }
 
     @GetMapping("/project/{projectId}")
-    @Operation(summary = "Get tasks by project", description = "Retrieve all tasks for a specific project")
-    public ResponseEntity<List<TaskDTO>> getTasksByProject(@PathVariable Long projectId) {
-        List<TaskDTO> tasks = taskService.getTasksByProject(projectId);
+    @Operation(summary = "Get tasks by project", description = "Retrieve a page of tasks for a specific project")
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksByProject(
+        @PathVariable Long projectId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> tasks = taskService.getTasksByProject(projectId, cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Get tasks by user", description = "Retrieve all tasks assigned to a specific user")
-    public ResponseEntity<List<TaskDTO>> getTasksByUser(@PathVariable Long userId) {
-        List<TaskDTO> tasks = taskService.getTasksByUser(userId);
+    @Operation(summary = "Get tasks by user", description = "Retrieve a page of tasks assigned to a specific user")
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksByUser(
+        @PathVariable Long userId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> tasks = taskService.getTasksByUser(userId, cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get tasks by status", description = "Retrieve tasks with a specific status")
-    public ResponseEntity<List<TaskDTO>> getTasksByStatus(@PathVariable Task.TaskStatus status) {
-        List<TaskDTO> tasks = taskService.getTasksByStatus(status);
+    @Operation(summary = "Get tasks by status", description = "Retrieve a page of tasks with a specific status")
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksByStatus(
+        @PathVariable Task.TaskStatus status,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> tasks = taskService.getTasksByStatus(status, cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/priority/{priority}")
-    @Operation(summary = "Get tasks by priority", description = "Retrieve tasks with a specific priority")
-    public ResponseEntity<List<TaskDTO>> getTasksByPriority(@PathVariable Task.TaskPriority priority) {
-        List<TaskDTO> tasks = taskService.getTasksByPriority(priority);
+    @Operation(summary = "Get tasks by priority", description = "Retrieve a page of tasks with a specific priority")
+    public ResponseEntity<CursorPage<TaskDTO>> getTasksByPriority(
+        @PathVariable Task.TaskPriority priority,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> tasks = taskService.getTasksByPriority(priority, cursor, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Filter tasks", description = "Retrieve a page of tasks matching any combination of filters")
+    public ResponseEntity<CursorPage<TaskDTO>> filterTasks(
+        @RequestParam(required = false) Long projectId,
+        @RequestParam(required = false) Long assignedToId,
+        @RequestParam(required = false) Task.TaskStatus status,
+        @RequestParam(required = false) Task.TaskPriority priority,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<TaskDTO> tasks = taskService.filterTasks(projectId, assignedToId, status, priority, cursor, limit);
         return ResponseEntity.ok(tasks);
     }
 
@@ -98,26 +177,36 @@ public class TaskController {
     @Operation(summary = "Assign task", description = "Assign a task to a user")
     public ResponseEntity<TaskDTO> assignTask(
         @PathVariable Long taskId, 
-        @RequestParam Long userId
+        @RequestParam Long userId,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        TaskDTO updatedTask = taskService.assignTask(taskId, userId);
-        return ResponseEntity.ok(updatedTask);
+        TaskDTO updatedTask = taskService.assignTask(taskId, userId, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updatedTask)).body(updatedTask);
     }
 
     @PatchMapping("/{taskId}/status")
-    @Operation(summary = "Update task status", description = "Update the status of a task")
+    @Operation(
+        summary = "Update task status",
+        description = "Update the status of a task; with expectedStatus the move only happens if the task is still in that status"
+    )
     public ResponseEntity<TaskDTO> updateTaskStatus(
         @PathVariable Long taskId, 
-        @RequestParam Task.TaskStatus newStatus
+        @RequestParam Task.TaskStatus newStatus,
+        @RequestParam(required = false) Task.TaskStatus expectedStatus,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        TaskDTO updatedTask = taskService.updateTaskStatus(taskId, newStatus);
-        return ResponseEntity.ok(updatedTask);
+        TaskDTO updatedTask = taskService.updateTaskStatus(taskId, newStatus, expectedStatus, parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(updatedTask)).body(updatedTask);
     }
 
     @GetMapping("/{taskId}/comments")
-    @Operation(summary = "Get task comments", description = "Retrieve all comments for a specific task")
-    public ResponseEntity<List<CommentDTO>> getTaskComments(@PathVariable Long taskId) {
-        List<CommentDTO> comments = taskService.getTaskComments(taskId);
+    @Operation(summary = "Get task comments", description = "Retrieve a page of comments for a task, oldest first")
+    public ResponseEntity<CursorPage<CommentDTO>> getTaskComments(
+        @PathVariable Long taskId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        CursorPage<CommentDTO> comments = taskService.getTaskComments(taskId, cursor, limit);
         return ResponseEntity.ok(comments);
     }
 
@@ -131,4 +220,35 @@ public class TaskController {
         CommentDTO comment = taskService.addCommentToTask(taskId, userId, message);
         return new ResponseEntity<>(comment, HttpStatus.CREATED);
     }
+
+    @DeleteMapping("/{taskId}/comments/{commentId}")
+    @Operation(summary = "Delete task comment", description = "Delete a comment from a task")
+    public ResponseEntity<Void> deleteTaskComment(@PathVariable Long taskId, @PathVariable Long commentId) {
+        taskService.deleteComment(taskId, commentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Strong ETag derived from the task's @Version
+    private static String eTag(TaskDTO task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    // Returns the version named by an If-Match header, or null when absent or "*"
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new BusinessValidationException("If-Match must be a single quoted ETag");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new BusinessValidationException("If-Match does not name a task version");
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.agilepm.dto;
+
+import com.agilepm.model.AuditLog;
+
+import java.time.Instant;
+
+public class AuditLogDTO {
+    private Long id;
+    private String username;
+    private String action;
+    private String entityType;
+    private String entityId;
+    private String details;
+    private Instant timestamp;
+    private String ipAddress;
+    private AuditLog.AuditLogStatus status;
+
+    // Constructors
+    public AuditLogDTO() {}
+
+    public AuditLogDTO(AuditLog auditLog) {
+        this.id = auditLog.getId();
+        this.username = auditLog.getUsername();
+        this.action = auditLog.getAction();
+        this.entityType = auditLog.getEntityType();
+        this.entityId = auditLog.getEntityId();
+        this.details = auditLog.getDetails();
+        this.timestamp = auditLog.getTimestamp();
+        this.ipAddress = auditLog.getIpAddress();
+        this.status = auditLog.getStatus();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public void setDetails(String details) {
+        this.details = details;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public void setIpAddress(String ipAddress) {
+        this.ipAddress = ipAddress;
+    }
+
+    public AuditLog.AuditLogStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(AuditLog.AuditLogStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,62 @@
+package com.agilepm.dto;
+
+import com.agilepm.model.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoardColumnDTO {
+    private Task.TaskStatus status;
+    private long count;
+    private Integer wipLimit;
+    private List<TaskDTO> cards = new ArrayList<>();
+    private String nextCursor;
+
+    // Constructors
+    public BoardColumnDTO() {}
+
+    public BoardColumnDTO(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public Integer getWipLimit() {
+        return wipLimit;
+    }
+
+    public void setWipLimit(Integer wipLimit) {
+        this.wipLimit = wipLimit;
+    }
+
+    public List<TaskDTO> getCards() {
+        return cards;
+    }
+
+    public void setCards(List<TaskDTO> cards) {
+        this.cards = cards;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,33 @@
+package com.agilepm.dto;
+
+import java.util.List;
+
+public class BoardDTO {
+    private Long projectId;
+    private List<BoardColumnDTO> columns;
+
+    // Constructors
+    public BoardDTO() {}
+
+    public BoardDTO(Long projectId, List<BoardColumnDTO> columns) {
+        this.projectId = projectId;
+        this.columns = columns;
+    }
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<BoardColumnDTO> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(List<BoardColumnDTO> columns) {
+        this.columns = columns;
+    }
+}
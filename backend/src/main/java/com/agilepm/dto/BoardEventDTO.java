@@ -0,0 +1,101 @@
+package com.agilepm.dto;
+
+import com.agilepm.model.Task;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// Compact delta pushed to board subscribers; only the fields the type needs are set
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardEventDTO {
+
+    public enum Type {
+        TASK_CREATED,         // task
+        TASK_UPDATED,         // task; also sent when a task moves in from another project
+        TASK_STATUS_CHANGED,  // status, version
+        TASK_ASSIGNED,        // assignedToId, version
+        TASK_REMOVED,         // deleted, or moved to another project
+        COMMENT_ADDED,        // comment
+        COMMENT_DELETED       // commentId
+    }
+
+    private Type type;
+    private Long taskId;
+    private Long version;
+    private Task.TaskStatus status;
+    private Long assignedToId;
+    private TaskDTO task;
+    private Long commentId;
+    private CommentDTO comment;
+
+    // Constructors
+    public BoardEventDTO() {}
+
+    public BoardEventDTO(Type type, Long taskId) {
+        this.type = type;
+        this.taskId = taskId;
+    }
+
+    // Getters and Setters
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public Long getAssignedToId() {
+        return assignedToId;
+    }
+
+    public void setAssignedToId(Long assignedToId) {
+        this.assignedToId = assignedToId;
+    }
+
+    public TaskDTO getTask() {
+        return task;
+    }
+
+    public void setTask(TaskDTO task) {
+        this.task = task;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public CommentDTO getComment() {
+        return comment;
+    }
+
+    public void setComment(CommentDTO comment) {
+        this.comment = comment;
+    }
+}
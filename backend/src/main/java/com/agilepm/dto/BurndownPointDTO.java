@@ -0,0 +1,43 @@
+package com.agilepm.dto;
+
+import java.time.LocalDate;
+
+public class BurndownPointDTO {
+    private LocalDate date;
+    private int remainingTasks;
+    private int completedTasks;
+
+    // Constructors
+    public BurndownPointDTO() {}
+
+    public BurndownPointDTO(LocalDate date, int remainingTasks, int completedTasks) {
+        this.date = date;
+        this.remainingTasks = remainingTasks;
+        this.completedTasks = completedTasks;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public int getRemainingTasks() {
+        return remainingTasks;
+    }
+
+    public void setRemainingTasks(int remainingTasks) {
+        this.remainingTasks = remainingTasks;
+    }
+
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+}
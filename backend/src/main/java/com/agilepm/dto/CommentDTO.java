@@ -30,6 +30,16 @@ public class CommentDTO {
         this.timestamp = comment.getTimestamp();
     }
 
+    // Used by JPQL constructor projections in CommentRepository
+    public CommentDTO(Long id, Long taskId, Long userId, String userName, String message, LocalDateTime timestamp) {
+        this.id = id;
+        this.taskId = taskId;
+        this.userId = userId;
+        this.userName = userName;
+        this.message = message;
+        this.timestamp = timestamp;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -0,0 +1,86 @@
+package com.agilepm.dto;
+
+import com.agilepm.exception.BusinessValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+public class CursorPage<T> {
+    private static final String SEPARATOR = "|";
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public CursorPage() {}
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Opaque continuation tokens: the key parts of the last row, base64url encoded
+    public static String encodeCursor(Object... keyParts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keyParts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keyParts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decodeCursor(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedParts) {
+                throw new BusinessValidationException("Invalid pagination cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessValidationException("Invalid pagination cursor");
+        }
+    }
+
+    public static Long decodeIdCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decodeCursor(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new BusinessValidationException("Invalid pagination cursor");
+        }
+    }
+
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
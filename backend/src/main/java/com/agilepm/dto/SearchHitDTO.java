@@ -0,0 +1,94 @@
+package com.agilepm.dto;
+
+public class SearchHitDTO {
+    private HitType type;
+    private Long taskId;
+    private Long commentId;
+    private Long projectId;
+    private String title;
+    private String snippet;
+    private float score;
+
+    public enum HitType {
+        TASK,
+        COMMENT
+    }
+
+    // Constructors
+    public SearchHitDTO() {}
+
+    public SearchHitDTO(
+        HitType type,
+        Long taskId,
+        Long commentId,
+        Long projectId,
+        String title,
+        String snippet,
+        float score
+    ) {
+        this.type = type;
+        this.taskId = taskId;
+        this.commentId = commentId;
+        this.projectId = projectId;
+        this.title = title;
+        this.snippet = snippet;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public HitType getType() {
+        return type;
+    }
+
+    public void setType(HitType type) {
+        this.type = type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getCommentId() {
+        return commentId;
+    }
+
+    public void setCommentId(Long commentId) {
+        this.commentId = commentId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,85 @@
+package com.agilepm.dto;
+
+import com.agilepm.model.Sprint;
+
+import java.time.LocalDateTime;
+
+public class SprintDTO {
+    private Long id;
+    private Long projectId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Sprint.SprintStatus status;
+    private LocalDateTime createdAt;
+    private Long version;
+
+    // Constructors
+    public SprintDTO() {}
+
+    public SprintDTO(Sprint sprint) {
+        this.id = sprint.getId();
+        this.projectId = sprint.getProject() != null ? sprint.getProject().getId() : null;
+        this.startDate = sprint.getStartDate();
+        this.endDate = sprint.getEndDate();
+        this.status = sprint.getStatus();
+        this.createdAt = sprint.getCreatedAt();
+        this.version = sprint.getVersion();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public Sprint.SprintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Sprint.SprintStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
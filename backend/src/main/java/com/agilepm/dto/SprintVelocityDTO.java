@@ -0,0 +1,53 @@
+package com.agilepm.dto;
+
+import java.time.LocalDateTime;
+
+public class SprintVelocityDTO {
+    private Long sprintId;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private int completedTasks;
+
+    // Constructors
+    public SprintVelocityDTO() {}
+
+    public SprintVelocityDTO(Long sprintId, LocalDateTime startDate, LocalDateTime endDate, int completedTasks) {
+        this.sprintId = sprintId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.completedTasks = completedTasks;
+    }
+
+    // Getters and Setters
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+}
@@ -0,0 +1,68 @@
+package com.agilepm.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// One batch of changes after a watermark. Rows are current state: apply them as upserts,
+// tombstones as deletes, then store the watermark. While hasMore is true, request the
+// next batch with the new watermark straight away.
+public class SyncDTO {
+    private List<TaskDTO> tasks = new ArrayList<>();
+    private List<CommentDTO> comments = new ArrayList<>();
+    private List<SprintDTO> sprints = new ArrayList<>();
+    private List<SyncTombstoneDTO> deleted = new ArrayList<>();
+    private String watermark;
+    private boolean hasMore;
+
+    // Constructors
+    public SyncDTO() {}
+
+    // Getters and Setters
+    public List<TaskDTO> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskDTO> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<CommentDTO> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentDTO> comments) {
+        this.comments = comments;
+    }
+
+    public List<SprintDTO> getSprints() {
+        return sprints;
+    }
+
+    public void setSprints(List<SprintDTO> sprints) {
+        this.sprints = sprints;
+    }
+
+    public List<SyncTombstoneDTO> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<SyncTombstoneDTO> deleted) {
+        this.deleted = deleted;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
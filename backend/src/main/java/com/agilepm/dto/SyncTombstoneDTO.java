@@ -0,0 +1,61 @@
+package com.agilepm.dto;
+
+import java.time.Instant;
+
+// A task, comment or sprint deleted since the client's watermark
+public class SyncTombstoneDTO {
+
+    public enum EntityType {
+        TASK,
+        COMMENT,
+        SPRINT
+    }
+
+    private EntityType entityType;
+    private Long id;
+    private Long projectId;
+    private Instant deletedAt;
+
+    // Constructors
+    public SyncTombstoneDTO() {}
+
+    public SyncTombstoneDTO(EntityType entityType, Long id, Long projectId, Instant deletedAt) {
+        this.entityType = entityType;
+        this.id = id;
+        this.projectId = projectId;
+        this.deletedAt = deletedAt;
+    }
+
+    // Getters and Setters
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+        this.entityType = entityType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -23,6 +23,8 @@ public class TaskDTO {
     private Task.TaskPriority priority;
     private LocalDateTime dueDate;
     private LocalDateTime createdAt;
+    private Long version;
+    private Integer commentCount;
 
     // Constructors
     public TaskDTO() {}
@@ -38,6 +40,37 @@ public class TaskDTO {
         this.priority = task.getPriority();
         this.dueDate = task.getDueDate();
         this.createdAt = task.getCreatedAt();
+        this.version = task.getVersion();
+        this.commentCount = task.getCommentCount();
+    }
+
+    // Used by JPQL constructor projections in TaskRepository
+    public TaskDTO(
+        Long id,
+        String title,
+        String description,
+        Long projectId,
+        Long assignedToId,
+        Long sprintId,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        LocalDateTime dueDate,
+        LocalDateTime createdAt,
+        Long version,
+        Integer commentCount
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.projectId = projectId;
+        this.assignedToId = assignedToId;
+        this.sprintId = sprintId;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.version = version;
+        this.commentCount = commentCount;
     }
 
     // Getters and Setters
@@ -120,4 +153,20 @@ public class TaskDTO {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Integer getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Integer commentCount) {
+        this.commentCount = commentCount;
+    }
 }
@@ -0,0 +1,7 @@
+package com.agilepm.event;
+
+import com.agilepm.dto.CommentDTO;
+
+// Published when a comment is added to a task; see TaskChangedEvent for delivery
+public record CommentAddedEvent(CommentDTO comment, Long projectId, Long companyId) {
+}
@@ -0,0 +1,7 @@
+package com.agilepm.event;
+
+import com.agilepm.dto.CommentDTO;
+
+// Published when a comment is removed from a task; see TaskChangedEvent for delivery
+public record CommentDeletedEvent(CommentDTO comment, Long projectId, Long companyId) {
+}
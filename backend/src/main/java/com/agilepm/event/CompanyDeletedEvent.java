@@ -0,0 +1,6 @@
+package com.agilepm.event;
+
+// Published when a company is deleted. Its projects, tasks and comments go with it
+// through the database cascade, so no per-project or per-task events follow
+public record CompanyDeletedEvent(Long companyId) {
+}
@@ -0,0 +1,6 @@
+package com.agilepm.event;
+
+// Published when a project is deleted. Its tasks and comments go with it through the
+// database cascade, so no per-task events follow; see TaskChangedEvent for delivery
+public record ProjectDeletedEvent(Long projectId, Long companyId) {
+}
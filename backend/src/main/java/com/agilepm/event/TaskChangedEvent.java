@@ -0,0 +1,17 @@
+package com.agilepm.event;
+
+import com.agilepm.dto.TaskDTO;
+
+// Published from the task write paths inside the transaction; listeners that
+// mirror tasks elsewhere should use @TransactionalEventListener (AFTER_COMMIT).
+// previousProjectId is set only when the task moved to another project.
+public record TaskChangedEvent(ChangeType type, TaskDTO task, Long companyId, Long previousProjectId) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        ASSIGNED,
+        DELETED
+    }
+}
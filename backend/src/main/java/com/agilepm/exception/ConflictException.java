@@ -0,0 +1,13 @@
+package com.agilepm.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public static ConflictException staleVersion(String resourceName, Long resourceId) {
+        return new ConflictException(
+            String.format("%s %d was modified by another request", resourceName, resourceId)
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.agilepm.exception;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -100,6 +101,48 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    // Handle concurrent modification conflicts
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflictException(
+        ConflictException ex,
+        WebRequest request
+    ) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.CONFLICT,
+            ex.getMessage(),
+            request
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // Handle stale @Version updates detected by Hibernate at flush time
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+        ObjectOptimisticLockingFailureException ex,
+        WebRequest request
+    ) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.CONFLICT,
+            "The resource was modified by another request; reload it and retry",
+            request
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // Handle failed If-Match preconditions
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+        PreconditionFailedException ex,
+        WebRequest request
+    ) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.PRECONDITION_FAILED,
+            ex.getMessage(),
+            request
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
     // Handle token refresh exceptions
     @ExceptionHandler(TokenRefreshException.class)
     public ResponseEntity<ErrorResponse> handleTokenRefreshException(
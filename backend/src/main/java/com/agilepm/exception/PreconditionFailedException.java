@@ -0,0 +1,12 @@
+package com.agilepm.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String resourceName, Long resourceId, Long currentVersion) {
+        super(String.format("%s %d does not match If-Match; current version is %d",
+            resourceName, resourceId, currentVersion));
+    }
+}
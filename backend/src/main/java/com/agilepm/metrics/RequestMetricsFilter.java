@@ -0,0 +1,79 @@
+package com.agilepm.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Records how many SQL statements each endpoint issues and logs slow or chatty
+// requests. Runs ahead of the security chain so authentication lookups count too;
+// request latency per endpoint comes from Spring Boot's http.server.requests timer.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestThresholdMs;
+    private final int sqlStatementWarnThreshold;
+
+    public RequestMetricsFilter(
+        MeterRegistry meterRegistry,
+        @Value("${app.metrics.slow-request-threshold-ms}") long slowRequestThresholdMs,
+        @Value("${app.metrics.sql-statement-warn-threshold}") int sqlStatementWarnThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestThresholdMs = slowRequestThresholdMs;
+        this.sqlStatementWarnThreshold = sqlStatementWarnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request, 
+        HttpServletResponse response, 
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.stop();
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            String uri = resolveUri(request);
+
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("status", String.valueOf(response.getStatus()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+
+            if (elapsedMs >= slowRequestThresholdMs || statements >= sqlStatementWarnThreshold) {
+                logger.warn("Slow request: {} {} ({}) took {} ms with {} SQL statements, status {}",
+                    request.getMethod(), request.getRequestURI(), uri, elapsedMs, statements, response.getStatus());
+            }
+        }
+    }
+
+    // Uses the matched route template so path variables do not explode tag cardinality
+    private static String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 
 @Entity
 @Table(name = "comments")
@@ -28,6 +29,10 @@ public class Comment {
     @Column(name = "timestamp")
     private LocalDateTime timestamp;
 
+    // Stamped by a database trigger on every update; read by /api/sync
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private OffsetDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         timestamp = LocalDateTime.now();
@@ -82,4 +87,12 @@ public class Comment {
     public void setTimestamp(LocalDateTime timestamp) {
         this.timestamp = timestamp;
     }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(OffsetDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,72 @@
+package com.agilepm.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "project_column_counters",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"project_id", "status"})
+       })
+public class ProjectColumnCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Task.TaskStatus status;
+
+    @Column(name = "task_count", nullable = false)
+    private int taskCount;
+
+    @Column(name = "wip_limit")
+    private Integer wipLimit;
+
+    // Constructors
+    public ProjectColumnCounter() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public Integer getWipLimit() {
+        return wipLimit;
+    }
+
+    public void setWipLimit(Integer wipLimit) {
+        this.wipLimit = wipLimit;
+    }
+}
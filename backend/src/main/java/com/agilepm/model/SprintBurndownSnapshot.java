@@ -0,0 +1,80 @@
+package com.agilepm.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "sprint_burndown_snapshots",
+       uniqueConstraints = {
+           @UniqueConstraint(columnNames = {"sprint_id", "snapshot_date"})
+       })
+public class SprintBurndownSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sprint_id", nullable = false)
+    private Sprint sprint;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "remaining_tasks", nullable = false)
+    private int remainingTasks;
+
+    @Column(name = "completed_tasks", nullable = false)
+    private int completedTasks;
+
+    // Constructors
+    public SprintBurndownSnapshot() {}
+
+    public SprintBurndownSnapshot(Sprint sprint, LocalDate snapshotDate, int remainingTasks, int completedTasks) {
+        this.sprint = sprint;
+        this.snapshotDate = snapshotDate;
+        this.remainingTasks = remainingTasks;
+        this.completedTasks = completedTasks;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Sprint getSprint() {
+        return sprint;
+    }
+
+    public void setSprint(Sprint sprint) {
+        this.sprint = sprint;
+    }
+
+    public LocalDate getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public void setSnapshotDate(LocalDate snapshotDate) {
+        this.snapshotDate = snapshotDate;
+    }
+
+    public int getRemainingTasks() {
+        return remainingTasks;
+    }
+
+    public void setRemainingTasks(int remainingTasks) {
+        this.remainingTasks = remainingTasks;
+    }
+
+    public int getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(int completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+}
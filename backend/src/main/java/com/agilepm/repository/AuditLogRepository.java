@@ -17,4 +17,8 @@ public interface AuditLogRepository extends
     List<AuditLog> findByEntityType(String entityType);
     List<AuditLog> findByTimestampBetween(Instant start, Instant end);
     List<AuditLog> findByUsernameAndEntityType(String username, String entityType);
+
+    // Range predicates on timestamp let Postgres prune to the matching monthly partitions
+    List<AuditLog> findByUsernameAndTimestampBetweenOrderByTimestampAsc(String username, Instant start, Instant end);
+    List<AuditLog> findByEntityTypeAndTimestampBetweenOrderByTimestampAsc(String entityType, Instant start, Instant end);
 }
@@ -0,0 +1,57 @@
+package com.agilepm.repository;
+
+import com.agilepm.model.AuditLog;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+// Composable filters for audit log search; a null argument means "no filter"
+public final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {}
+
+    public static Specification<AuditLog> hasUsername(String username) {
+        return (root, query, cb) -> username == null ? null : cb.equal(root.get("username"), username);
+    }
+
+    public static Specification<AuditLog> hasAction(String action) {
+        return (root, query, cb) -> action == null ? null : cb.equal(root.get("action"), action);
+    }
+
+    public static Specification<AuditLog> hasEntityType(String entityType) {
+        return (root, query, cb) -> entityType == null ? null : cb.equal(root.get("entityType"), entityType);
+    }
+
+    public static Specification<AuditLog> hasEntityId(String entityId) {
+        return (root, query, cb) -> entityId == null ? null : cb.equal(root.get("entityId"), entityId);
+    }
+
+    public static Specification<AuditLog> hasStatus(AuditLog.AuditLogStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    // Bounds on timestamp also let Postgres prune to the matching monthly partitions
+    public static Specification<AuditLog> timestampFrom(Instant from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("timestamp"), from);
+    }
+
+    public static Specification<AuditLog> timestampBefore(Instant to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThan(root.get("timestamp"), to);
+    }
+
+    // Keyset continuation for newest-first ordering on (timestamp, id)
+    public static Specification<AuditLog> olderThan(Instant timestamp, Long id) {
+        return (root, query, cb) -> {
+            if (timestamp == null) {
+                return null;
+            }
+            return cb.or(
+                cb.lessThan(root.get("timestamp"), timestamp),
+                cb.and(
+                    cb.equal(root.get("timestamp"), timestamp),
+                    cb.lessThan(root.get("id"), id)
+                )
+            );
+        };
+    }
+}
@@ -1,13 +1,69 @@
 package com.agilepm.repository;
 
+import com.agilepm.dto.CommentDTO;
 import com.agilepm.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByTask_Id(Long taskId);
     List<Comment> findByUser_Id(Long userId);
+
+    // Author name comes from the joined user row, so a page costs one statement
+    String COMMENT_DTO_PROJECTION =
+        "select new com.agilepm.dto.CommentDTO(c.id, c.task.id, u.id, u.name, c.message, c.timestamp) " +
+        "from Comment c join c.user u ";
+
+    // Keyset pagination in posting order, served by the (task_id, timestamp, id) index
+    @Query(COMMENT_DTO_PROJECTION + "where c.task.id = :taskId order by c.timestamp, c.id")
+    List<CommentDTO> findFirstPageByTask(@Param("taskId") Long taskId, Pageable pageable);
+
+    @Query(COMMENT_DTO_PROJECTION + "where c.task.id = :taskId " +
+           "and (c.timestamp, c.id) > (:afterTimestamp, :afterId) order by c.timestamp, c.id")
+    List<CommentDTO> findPageByTaskAfter(
+        @Param("taskId") Long taskId,
+        @Param("afterTimestamp") LocalDateTime afterTimestamp,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+
+    // Full-text search over comment messages; same paging contract as TaskRepository.searchPage
+    @Query(value =
+        "select s.task_id as taskId, s.id as commentId, s.project_id as projectId, cast(null as text) as title, " +
+        "ts_headline('english', s.message, s.query, '" + SearchHitView.SNIPPET_HEADLINE + "') as snippet, " +
+        "s.rank as rank, s.search_key as searchKey " +
+        "from (" +
+        "  select c.id, c.task_id, t.project_id, c.message, q.query, " +
+        "    ts_rank(c.search_vector, q.query) as rank, 'comment:' || c.id as search_key " +
+        "  from comments c " +
+        "  join tasks t on t.id = c.task_id " +
+        "  join projects p on p.id = t.project_id " +
+        "  cross join websearch_to_tsquery('english', :query) as q(query) " +
+        "  where c.search_vector @@ q.query " +
+        "  and (cast(:companyId as bigint) is null or p.company_id = cast(:companyId as bigint)) " +
+        "  and (cast(:projectId as bigint) is null or t.project_id = cast(:projectId as bigint)) " +
+        "  and (cast(:afterKey as text) is null " +
+        "    or ts_rank(c.search_vector, q.query) < cast(:afterRank as real) " +
+        "    or (ts_rank(c.search_vector, q.query) = cast(:afterRank as real) " +
+        "      and ('comment:' || c.id) collate \"C\" > cast(:afterKey as text))) " +
+        "  order by rank desc, ('comment:' || c.id) collate \"C\" " +
+        "  limit :limit" +
+        ") s " +
+        "order by s.rank desc, s.search_key collate \"C\"",
+        nativeQuery = true)
+    List<SearchHitView> searchPage(
+        @Param("query") String query,
+        @Param("companyId") Long companyId,
+        @Param("projectId") Long projectId,
+        @Param("afterRank") Float afterRank,
+        @Param("afterKey") String afterKey,
+        @Param("limit") int limit
+    );
 }
@@ -0,0 +1,59 @@
+package com.agilepm.repository;
+
+import com.agilepm.model.ProjectColumnCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectColumnCounterRepository extends JpaRepository<ProjectColumnCounter, Long> {
+    List<ProjectColumnCounter> findByProject_Id(Long projectId);
+
+    // Applies a delta to the column count, creating the row on first use
+    @Modifying
+    @Query(value =
+        "insert into project_column_counters (project_id, status, task_count) " +
+        "values (:projectId, :status, greatest(:delta, 0)) " +
+        "on conflict (project_id, status) do update set " +
+        "task_count = greatest(project_column_counters.task_count + :delta, 0)",
+        nativeQuery = true)
+    int adjustCount(
+        @Param("projectId") Long projectId,
+        @Param("status") String status,
+        @Param("delta") int delta
+    );
+
+    // Same as adjustCount for a positive delta, but only if the column stays within its
+    // WIP limit; the row lock taken by the upsert makes check and increment one step.
+    // Returns 0 when the limit would be exceeded.
+    @Modifying
+    @Query(value =
+        "insert into project_column_counters (project_id, status, task_count) " +
+        "values (:projectId, :status, :delta) " +
+        "on conflict (project_id, status) do update set " +
+        "task_count = project_column_counters.task_count + :delta " +
+        "where project_column_counters.wip_limit is null " +
+        "or project_column_counters.task_count + :delta <= project_column_counters.wip_limit",
+        nativeQuery = true)
+    int incrementWithinLimit(
+        @Param("projectId") Long projectId,
+        @Param("status") String status,
+        @Param("delta") int delta
+    );
+
+    @Modifying
+    @Query(value =
+        "insert into project_column_counters (project_id, status, task_count, wip_limit) " +
+        "values (:projectId, :status, 0, cast(:wipLimit as integer)) " +
+        "on conflict (project_id, status) do update set wip_limit = excluded.wip_limit",
+        nativeQuery = true)
+    int upsertWipLimit(
+        @Param("projectId") Long projectId,
+        @Param("status") String status,
+        @Param("wipLimit") Integer wipLimit
+    );
+}
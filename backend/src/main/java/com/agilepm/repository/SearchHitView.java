@@ -0,0 +1,16 @@
+package com.agilepm.repository;
+
+// Row shape of the full-text search queries in TaskRepository and CommentRepository
+public interface SearchHitView {
+    // ts_headline options: whole title with matches marked, a short fragment of the body
+    String TITLE_HEADLINE = "HighlightAll=true, StartSel=<b>, StopSel=</b>";
+    String SNIPPET_HEADLINE = "StartSel=<b>, StopSel=</b>, MaxWords=35, MinWords=15";
+
+    Long getTaskId();
+    Long getCommentId();
+    Long getProjectId();
+    String getTitle();
+    String getSnippet();
+    Float getRank();
+    String getSearchKey();
+}
@@ -0,0 +1,43 @@
+package com.agilepm.repository;
+
+import com.agilepm.model.SprintBurndownSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SprintBurndownSnapshotRepository extends JpaRepository<SprintBurndownSnapshot, Long> {
+    List<SprintBurndownSnapshot> findBySprint_IdOrderBySnapshotDateAsc(Long sprintId);
+    Optional<SprintBurndownSnapshot> findTopBySprint_IdOrderBySnapshotDateDesc(Long sprintId);
+
+    // Inserts the day's seed row, or applies the delta if another move already created it
+    @Modifying
+    @Query(value =
+        "insert into sprint_burndown_snapshots (sprint_id, snapshot_date, remaining_tasks, completed_tasks) " +
+        "values (:sprintId, :snapshotDate, :seedRemaining, :seedCompleted) " +
+        "on conflict (sprint_id, snapshot_date) do update set " +
+        "remaining_tasks = sprint_burndown_snapshots.remaining_tasks + :remainingDelta, " +
+        "completed_tasks = sprint_burndown_snapshots.completed_tasks + :completedDelta",
+        nativeQuery = true)
+    int upsertDelta(
+        @Param("sprintId") Long sprintId,
+        @Param("snapshotDate") LocalDate snapshotDate,
+        @Param("seedRemaining") int seedRemaining,
+        @Param("seedCompleted") int seedCompleted,
+        @Param("remainingDelta") int remainingDelta,
+        @Param("completedDelta") int completedDelta
+    );
+
+    // Latest snapshot of each sprint, used for velocity
+    @Query("select s from SprintBurndownSnapshot s " +
+           "where s.sprint.id in :sprintIds and s.snapshotDate = " +
+           "(select max(x.snapshotDate) from SprintBurndownSnapshot x where x.sprint.id = s.sprint.id)")
+    List<SprintBurndownSnapshot> findLatestBySprintIds(@Param("sprintIds") Collection<Long> sprintIds);
+}
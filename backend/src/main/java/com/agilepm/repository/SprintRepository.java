@@ -1,6 +1,7 @@
 package com.agilepm.repository;
 
 import com.agilepm.model.Sprint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +11,6 @@ import java.util.List;
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
     List<Sprint> findByProject_Id(Long projectId);
     List<Sprint> findByStatus(Sprint.SprintStatus status);
+    List<Sprint> findByProject_IdAndStatusOrderByEndDateDesc(
+        Long projectId, Sprint.SprintStatus status, Pageable pageable);
 }
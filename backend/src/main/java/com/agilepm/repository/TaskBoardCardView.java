@@ -0,0 +1,21 @@
+package com.agilepm.repository;
+
+import com.agilepm.model.Task;
+
+import java.time.LocalDateTime;
+
+// Row shape of the native board query in TaskRepository
+public interface TaskBoardCardView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    Long getProjectId();
+    Long getAssignedToId();
+    Long getSprintId();
+    Task.TaskStatus getStatus();
+    Task.TaskPriority getPriority();
+    LocalDateTime getDueDate();
+    LocalDateTime getCreatedAt();
+    Long getVersion();
+    Integer getCommentCount();
+}
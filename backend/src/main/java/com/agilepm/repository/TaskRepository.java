@@ -1,15 +1,145 @@
 package com.agilepm.repository;
 
+import com.agilepm.dto.TaskDTO;
 import com.agilepm.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     List<Task> findByProject_Id(Long projectId);
     List<Task> findByAssignedTo_Id(Long userId);
     List<Task> findByStatus(Task.TaskStatus status);
     List<Task> findByPriority(Task.TaskPriority priority);
+    long countBySprint_Id(Long sprintId);
+    long countBySprint_IdAndStatus(Long sprintId, Task.TaskStatus status);
+
+    // [sprintId, count] pairs of tasks in the given status, one grouped scan for many sprints
+    @Query("select t.sprint.id, count(t) from Task t " +
+           "where t.sprint.id in :sprintIds and t.status = :status group by t.sprint.id")
+    List<Object[]> countBySprintIdsAndStatus(
+        @Param("sprintIds") Collection<Long> sprintIds, @Param("status") Task.TaskStatus status);
+
+    // Constructor projection selecting only the columns TaskDTO needs; association ids
+    // are read from the foreign key columns, so no joins or per-row lazy loads happen
+    String TASK_DTO_PROJECTION =
+        "select new com.agilepm.dto.TaskDTO(" +
+        "t.id, t.title, t.description, t.project.id, t.assignedTo.id, t.sprint.id, " +
+        "t.status, t.priority, t.dueDate, t.createdAt, t.version, t.commentCount) " +
+        "from Task t ";
+
+    // Keyset pagination: rows strictly after the last seen id, in id order
+    @Query(TASK_DTO_PROJECTION + "where t.id > :afterId order by t.id")
+    List<TaskDTO> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_PROJECTION + "where t.project.id = :projectId and t.id > :afterId order by t.id")
+    List<TaskDTO> findPageByProject(
+        @Param("projectId") Long projectId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_PROJECTION + "where t.assignedTo.id = :userId and t.id > :afterId order by t.id")
+    List<TaskDTO> findPageByAssignee(
+        @Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_PROJECTION + "where t.status = :status and t.id > :afterId order by t.id")
+    List<TaskDTO> findPageByStatus(
+        @Param("status") Task.TaskStatus status, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_PROJECTION + "where t.priority = :priority and t.id > :afterId order by t.id")
+    List<TaskDTO> findPageByPriority(
+        @Param("priority") Task.TaskPriority priority, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(TASK_DTO_PROJECTION + "where t.project.id = :projectId order by t.id")
+    List<TaskDTO> findDtosByProject(@Param("projectId") Long projectId);
+
+    // First N cards of every status column in one statement: one LIMIT range scan of
+    // (project_id, status, id) per status, so the cost follows the cards shown, not the
+    // project size. The VALUES list holds every Task.TaskStatus.
+    @Query(value =
+        "select b.id as id, b.title as title, b.description as description, " +
+        "b.project_id as projectId, b.assigned_to as assignedToId, b.sprint_id as sprintId, " +
+        "b.status as status, b.priority as priority, b.due_date as dueDate, " +
+        "b.created_at as createdAt, b.version as version, b.comment_count as commentCount " +
+        "from (values ('TODO'), ('IN_PROGRESS'), ('REVIEW'), ('DONE')) as s(status) " +
+        "cross join lateral (" +
+        "  select t.* from tasks t " +
+        "  where t.project_id = :projectId and t.status = s.status " +
+        "  order by t.id " +
+        "  limit :cardsPerColumn" +
+        ") b " +
+        "order by b.status, b.id",
+        nativeQuery = true)
+    List<TaskBoardCardView> findBoardCards(
+        @Param("projectId") Long projectId, @Param("cardsPerColumn") int cardsPerColumn);
+
+    // Compare-and-set status transition in a single statement; 0 rows means the task is
+    // gone, no longer in the expected status, or (when given) no longer at the expected version
+    @Modifying
+    @Query("update Task t set t.status = :newStatus, t.version = t.version + 1 " +
+           "where t.id = :taskId and t.status = :expectedStatus " +
+           "and (:expectedVersion is null or t.version = :expectedVersion)")
+    int transitionStatus(
+        @Param("taskId") Long taskId,
+        @Param("expectedStatus") Task.TaskStatus expectedStatus,
+        @Param("newStatus") Task.TaskStatus newStatus,
+        @Param("expectedVersion") Long expectedVersion
+    );
+
+    // Adding or deleting a comment is not an edit of the task, so the version is left alone
+    @Modifying
+    @Query("update Task t set t.commentCount = t.commentCount + :delta where t.id = :taskId")
+    int adjustCommentCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    // Full-text search: one page of matches after the (rank, key) cursor, best first.
+    // Keys compare bytewise so the order matches the Lucene backend; headlines are
+    // computed for the returned page only.
+    @Query(value =
+        "select s.id as taskId, cast(null as bigint) as commentId, s.project_id as projectId, " +
+        "ts_headline('english', s.title, s.query, '" + SearchHitView.TITLE_HEADLINE + "') as title, " +
+        "ts_headline('english', coalesce(s.description, ''), s.query, '" + SearchHitView.SNIPPET_HEADLINE + "') as snippet, " +
+        "s.rank as rank, s.search_key as searchKey " +
+        "from (" +
+        "  select t.id, t.project_id, t.title, t.description, q.query, " +
+        "    ts_rank(t.search_vector, q.query) as rank, 'task:' || t.id as search_key " +
+        "  from tasks t " +
+        "  join projects p on p.id = t.project_id " +
+        "  cross join websearch_to_tsquery('english', :query) as q(query) " +
+        "  where t.search_vector @@ q.query " +
+        "  and (cast(:companyId as bigint) is null or p.company_id = cast(:companyId as bigint)) " +
+        "  and (cast(:projectId as bigint) is null or t.project_id = cast(:projectId as bigint)) " +
+        "  and (cast(:afterKey as text) is null " +
+        "    or ts_rank(t.search_vector, q.query) < cast(:afterRank as real) " +
+        "    or (ts_rank(t.search_vector, q.query) = cast(:afterRank as real) " +
+        "      and ('task:' || t.id) collate \"C\" > cast(:afterKey as text))) " +
+        "  order by rank desc, ('task:' || t.id) collate \"C\" " +
+        "  limit :limit" +
+        ") s " +
+        "order by s.rank desc, s.search_key collate \"C\"",
+        nativeQuery = true)
+    List<SearchHitView> searchPage(
+        @Param("query") String query,
+        @Param("companyId") Long companyId,
+        @Param("projectId") Long projectId,
+        @Param("afterRank") Float afterRank,
+        @Param("afterKey") String afterKey,
+        @Param("limit") int limit
+    );
+
+    // Server-side cursor for bulk export; must be consumed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAll();
 }
@@ -0,0 +1,18 @@
+package com.agilepm.repository;
+
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.model.Task;
+
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+    // Any filter argument may be null; only the supplied ones become predicates
+    List<TaskDTO> findPageByFilter(
+        Long projectId,
+        Long assignedToId,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        Long afterId,
+        int limit
+    );
+}
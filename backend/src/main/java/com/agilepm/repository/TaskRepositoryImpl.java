@@ -0,0 +1,72 @@
+package com.agilepm.repository;
+
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.model.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskDTO> findPageByFilter(
+        Long projectId,
+        Long assignedToId,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        Long afterId,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskDTO> query = cb.createQuery(TaskDTO.class);
+        Root<Task> task = query.from(Task.class);
+
+        // Build only the predicates that were supplied, so the planner sees plain
+        // equality conditions and can pick the matching composite index
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(task.get("id"), afterId));
+        if (projectId != null) {
+            predicates.add(cb.equal(task.get("project").get("id"), projectId));
+        }
+        if (assignedToId != null) {
+            predicates.add(cb.equal(task.get("assignedTo").get("id"), assignedToId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (priority != null) {
+            predicates.add(cb.equal(task.get("priority"), priority));
+        }
+
+        query.select(cb.construct(
+                TaskDTO.class,
+                task.get("id"),
+                task.get("title"),
+                task.get("description"),
+                task.get("project").get("id"),
+                task.get("assignedTo").get("id"),
+                task.get("sprint").get("id"),
+                task.get("status"),
+                task.get("priority"),
+                task.get("dueDate"),
+                task.get("createdAt"),
+                task.get("version"),
+                task.get("commentCount")
+            ))
+            .where(predicates.toArray(new Predicate[0]))
+            .orderBy(cb.asc(task.get("id")));
+
+        return entityManager.createQuery(query)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
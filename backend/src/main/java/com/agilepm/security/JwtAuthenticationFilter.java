@@ -5,8 +5,11 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -14,20 +17,30 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final JwtPrincipalCache principalCache;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final boolean stateless;
 
     @Autowired
     public JwtAuthenticationFilter(
         JwtTokenProvider tokenProvider, 
-        CustomUserDetailsService customUserDetailsService
+        CustomUserDetailsService customUserDetailsService,
+        JwtPrincipalCache principalCache,
+        TokenRevocationRegistry revocationRegistry,
+        @Value("${jwt.auth-mode}") String authMode
     ) {
         this.tokenProvider = tokenProvider;
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
+        this.revocationRegistry = revocationRegistry;
+        this.stateless = "stateless".equalsIgnoreCase(authMode);
     }
 
     @Override
@@ -39,10 +52,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt, getUserDetails(jwt))) {
-                String username = tokenProvider.extractUsername(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = StringUtils.hasText(jwt) ? resolveUserDetails(jwt) : null;
 
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(
                         userDetails, 
@@ -71,8 +83,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private UserDetails getUserDetails(String token) {
-        String username = tokenProvider.extractUsername(token);
-        return customUserDetailsService.loadUserByUsername(username);
+    private UserDetails resolveUserDetails(String token) {
+        if (stateless) {
+            TokenClaims claims = tokenProvider.parseToken(token);
+            if (revocationRegistry.isRevoked(claims)) {
+                return null;
+            }
+            if (claims.role() != null) {
+                return principalFromClaims(claims);
+            }
+            // Tokens minted without a role claim still need the user row
+        }
+        return loadUserDetails(token);
+    }
+
+    // Stateless mode: the signed claims are the source of truth, no database access
+    private UserDetails principalFromClaims(TokenClaims claims) {
+        return new User(
+            claims.email(),
+            "",
+            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + claims.role()))
+        );
+    }
+
+    // Cache hit: no parsing and no query. Miss: one signature check and one user lookup
+    private UserDetails loadUserDetails(String token) {
+        UserDetails cached = principalCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        TokenClaims claims = tokenProvider.parseToken(token);
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.email());
+        principalCache.put(token, userDetails, claims.expiresAt());
+        return userDetails;
     }
 }
@@ -0,0 +1,116 @@
+package com.agilepm.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, CachedPrincipal> cache;
+    private final long ttlNanos;
+
+    public JwtPrincipalCache(
+        @Value("${jwt.principal-cache.max-size}") long maxSize,
+        @Value("${jwt.principal-cache.ttl-seconds}") long ttlSeconds
+    ) {
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new PrincipalExpiry())
+            .recordStats()
+            .build();
+    }
+
+    // Returns the principal for a previously validated, still unexpired token, or null
+    public UserDetails get(String token) {
+        CachedPrincipal cached = cache.getIfPresent(hash(token));
+        if (cached == null || cached.expiresAt.isBefore(Instant.now())) {
+            return null;
+        }
+        return cached.userDetails;
+    }
+
+    public void put(String token, UserDetails userDetails, Instant tokenExpiresAt) {
+        cache.put(hash(token), new CachedPrincipal(userDetails, tokenExpiresAt));
+    }
+
+    // Drops every cached token of a user once the surrounding transaction commits,
+    // so a concurrent request cannot re-cache the pre-change row
+    public void evictUser(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictUserNow(username);
+                }
+            });
+        } else {
+            evictUserNow(username);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private void evictUserNow(String username) {
+        cache.asMap().values().removeIf(cached -> cached.userDetails.getUsername().equals(username));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class CachedPrincipal {
+        private final UserDetails userDetails;
+        private final Instant expiresAt;
+
+        private CachedPrincipal(UserDetails userDetails, Instant expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    // Entries live for the configured TTL, but never past the token's own expiry
+    private final class PrincipalExpiry implements Expiry<String, CachedPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, CachedPrincipal value, long currentTime) {
+            long untilTokenExpiry = Duration.between(Instant.now(), value.expiresAt).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
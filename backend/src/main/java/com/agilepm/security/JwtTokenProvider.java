@@ -4,10 +4,10 @@ import com.agilepm.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
@@ -17,14 +17,23 @@ import java.util.function.Function;
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
-
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    // Millisecond issue time, compared against TokenRevocationRegistry epochs
+    private static final String EPOCH_CLAIM = "epoch";
+
+    // Key material and parser are built once; both are immutable and thread-safe
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
+
+    public JwtTokenProvider(
+        @Value("${jwt.secret}") String jwtSecret,
+        @Value("${jwt.expiration}") long jwtExpiration
+    ) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+        this.jwtExpiration = jwtExpiration;
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -41,18 +50,34 @@ public class JwtTokenProvider {
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
+        long now = System.currentTimeMillis();
+        claims.put(EPOCH_CLAIM, now);
         return Jwts.builder()
             .setClaims(claims)
             .setSubject(subject)
-            .setIssuedAt(new Date(System.currentTimeMillis()))
-            .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-            .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + jwtExpiration))
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
     }
 
+    // Verifies the signature and expiry once and maps the claims into a typed record
+    public TokenClaims parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        String email = claims.get("email", String.class);
+        Long epoch = claims.get(EPOCH_CLAIM, Long.class);
+        return new TokenClaims(
+            claims.get("userId", Long.class),
+            email != null ? email : claims.getSubject(),
+            claims.get("role", String.class),
+            epoch != null ? epoch : claims.getIssuedAt().getTime(),
+            claims.getExpiration().toInstant()
+        );
+    }
+
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        TokenClaims claims = parseToken(token);
+        return claims.email().equals(userDetails.getUsername()) && !claims.isExpired();
     }
 
     public String extractUsername(String token) {
@@ -70,11 +95,7 @@ public class JwtTokenProvider {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new JwtException("Token has expired");
         } catch (JwtException e) {
@@ -82,10 +103,6 @@ public class JwtTokenProvider {
         }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     public long getExpirationTime() {
         return jwtExpiration;
     }
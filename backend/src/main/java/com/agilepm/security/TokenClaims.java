@@ -0,0 +1,11 @@
+package com.agilepm.security;
+
+import java.time.Instant;
+
+// Verified contents of an access token; enough to authorize without loading the user
+public record TokenClaims(Long userId, String email, String role, long epoch, Instant expiresAt) {
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(Instant.now());
+    }
+}
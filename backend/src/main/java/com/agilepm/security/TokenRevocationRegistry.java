@@ -0,0 +1,56 @@
+package com.agilepm.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-user revocation epochs: tokens issued before a user's epoch are rejected.
+// Entries only need to outlive the longest token lifetime, so the map stays small.
+@Component
+public class TokenRevocationRegistry {
+
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final JwtPrincipalCache principalCache;
+    private final long jwtExpiration;
+
+    public TokenRevocationRegistry(
+        JwtPrincipalCache principalCache,
+        @Value("${jwt.expiration}") long jwtExpiration
+    ) {
+        this.principalCache = principalCache;
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    // Invalidates every token the user holds, e.g. on logout, password or role change
+    public void revokeUser(String username) {
+        principalCache.evictUser(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeNow(username);
+                }
+            });
+        } else {
+            revokeNow(username);
+        }
+    }
+
+    public boolean isRevoked(TokenClaims claims) {
+        Long epoch = revokedBefore.get(claims.email());
+        return epoch != null && claims.epoch() < epoch;
+    }
+
+    private void revokeNow(String username) {
+        long now = System.currentTimeMillis();
+        revokedBefore.put(username, now);
+
+        // Anything older than a full token lifetime can no longer match a live token
+        long horizon = now - jwtExpiration;
+        revokedBefore.values().removeIf(epoch -> epoch < horizon);
+    }
+}
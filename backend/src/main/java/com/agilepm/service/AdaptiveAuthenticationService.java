@@ -130,7 +130,8 @@ public class AdaptiveAuthenticationService {
         userDeviceRepository.save(device);
     }
 
-    private String generateDeviceId(HttpServletRequest request) {
+    // Package-private so the benchmarks module can measure it
+    String generateDeviceId(HttpServletRequest request) {
         // Generate a unique device identifier based on multiple factors
         UserAgent userAgent = UserAgent.parseUserAgentString(request.getHeader("User-Agent"));
         String ipAddress = getClientIpAddress(request);
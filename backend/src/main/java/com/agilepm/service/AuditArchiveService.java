@@ -0,0 +1,265 @@
+package com.agilepm.service;
+
+import com.agilepm.archive.AuditSegmentFormat;
+import com.agilepm.archive.AuditSegmentReader;
+import com.agilepm.archive.AuditSegmentWriter;
+import com.agilepm.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Writes expired monthly audit partitions out to one immutable segment file per
+// UTC day before AuditPartitionManager detaches and drops them, and answers queries
+// over those segments so callers can union them with the rows still in the database
+@Service
+public class AuditArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchiveService.class);
+
+    private static final String SELECT_DAY =
+        "SELECT id, username, action, entity_type, entity_id, details, timestamp, ip_address, status " +
+        "FROM %s WHERE timestamp >= ? AND timestamp < ? ORDER BY timestamp, id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path directory;
+    private final int hotDays;
+    private final int retentionDays;
+    private final int blockRows;
+
+    // Segments are immutable, so an opened reader stays valid until the file is deleted
+    private final Map<LocalDate, AuditSegmentReader> readers = new ConcurrentHashMap<>();
+
+    public AuditArchiveService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.audit-log.archive.enabled}") boolean enabled,
+        @Value("${app.audit-log.archive.directory}") String directory,
+        @Value("${app.audit-log.archive.hot-days}") int hotDays,
+        @Value("${app.audit-log.retention-days}") int retentionDays,
+        @Value("${app.audit-log.archive.block-rows}") int blockRows
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(blockRows);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.hotDays = hotDays;
+        this.retentionDays = retentionDays;
+        this.blockRows = blockRows;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getHotDays() {
+        return hotDays;
+    }
+
+    /**
+     * Writes every day of one monthly partition to its segment file. Days whose segment
+     * already exists are skipped, so a run interrupted before the partition was dropped
+     * simply resumes; the caller drops the partition only after this returns.
+     */
+    public void archivePartition(String partition, YearMonth month) throws IOException {
+        Files.createDirectories(directory);
+
+        long total = 0;
+        for (LocalDate day = month.atDay(1); !day.isAfter(month.atEndOfMonth()); day = day.plusDays(1)) {
+            Path target = directory.resolve(AuditSegmentFormat.fileName(day));
+            // A segment left by an interrupted run is complete (it is published atomically)
+            if (Files.exists(target)) {
+                continue;
+            }
+            Instant start = day.atStartOfDay(ZoneOffset.UTC).toInstant();
+            Instant end = day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+            total += writeSegment(partition, target, start, end);
+        }
+        logger.info("Archived {} audit log rows from {} to {}", total, partition, directory);
+    }
+
+    // Segments share the database retention, so an archived day lives exactly as long as a hot one would
+    public void deleteExpiredSegments() throws IOException {
+        LocalDate cutoff = LocalDate.now(ZoneOffset.UTC).minusDays(retentionDays);
+        for (LocalDate day : listSegmentDays()) {
+            if (day.isBefore(cutoff)) {
+                readers.remove(day);
+                Files.deleteIfExists(directory.resolve(AuditSegmentFormat.fileName(day)));
+                logger.info("Deleted expired audit segment for {}", day);
+            }
+        }
+    }
+
+    // Archived rows in [from, to) matching the filter, oldest first
+    public List<AuditLog> find(String username, String entityType, Instant from, Instant to) {
+        List<AuditLog> result = new ArrayList<>();
+        Predicate<AuditLog> matches = row -> entityType == null || entityType.equals(row.getEntityType());
+        scan(from, to, username, false, row -> {
+            if (matches.test(row)) {
+                result.add(row);
+            }
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Newest-first search mirroring the audit search API: up to {@code limit} rows
+     * matching the filter that sort strictly before (beforeTimestamp, beforeId).
+     */
+    public List<AuditLog> search(
+        String username,
+        String action,
+        String entityType,
+        String entityId,
+        AuditLog.AuditLogStatus status,
+        Instant from,
+        Instant to,
+        Instant beforeTimestamp,
+        Long beforeId,
+        int limit
+    ) {
+        List<AuditLog> result = new ArrayList<>();
+        if (limit <= 0) {
+            return result;
+        }
+
+        Instant upper = to;
+        if (beforeTimestamp != null && (upper == null || beforeTimestamp.isBefore(upper))) {
+            // Rows sharing beforeTimestamp are still candidates, so the bound is exclusive of the next micro
+            upper = beforeTimestamp.plusNanos(1000);
+        }
+
+        scan(from, upper, username, true, row -> {
+            if (beforeTimestamp != null) {
+                int cmp = row.getTimestamp().compareTo(beforeTimestamp);
+                if (cmp > 0 || (cmp == 0 && row.getId() >= beforeId)) {
+                    return true;
+                }
+            }
+            if ((action == null || action.equals(row.getAction()))
+                    && (entityType == null || entityType.equals(row.getEntityType()))
+                    && (entityId == null || entityId.equals(row.getEntityId()))
+                    && (status == null || status == row.getStatus())) {
+                result.add(row);
+            }
+            return result.size() < limit;
+        });
+        return result;
+    }
+
+    private void scan(Instant from, Instant to, String username, boolean newestFirst, Predicate<AuditLog> visitor) {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate firstDay = from != null ? from.atZone(ZoneOffset.UTC).toLocalDate() : LocalDate.MIN;
+        LocalDate lastDay = to != null ? to.atZone(ZoneOffset.UTC).toLocalDate() : LocalDate.MAX;
+
+        List<LocalDate> days = listSegmentDays().stream()
+            .filter(day -> !day.isBefore(firstDay) && !day.isAfter(lastDay))
+            .sorted(newestFirst ? Comparator.reverseOrder() : Comparator.naturalOrder())
+            .collect(Collectors.toList());
+
+        try {
+            for (LocalDate day : days) {
+                AuditSegmentReader reader = openReader(day);
+                if (reader != null && !reader.scan(from, to, username, newestFirst, visitor)) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long writeSegment(String partition, Path target, Instant start, Instant end) throws IOException {
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(target, blockRows)) {
+            // Postgres only streams with a fetch size inside a transaction
+            transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.query(
+                String.format(SELECT_DAY, partition),
+                rs -> {
+                    AuditLog auditLog = new AuditLog();
+                    auditLog.setId(rs.getLong("id"));
+                    auditLog.setUsername(rs.getString("username"));
+                    auditLog.setAction(rs.getString("action"));
+                    auditLog.setEntityType(rs.getString("entity_type"));
+                    auditLog.setEntityId(rs.getString("entity_id"));
+                    auditLog.setDetails(rs.getString("details"));
+                    auditLog.setTimestamp(rs.getTimestamp("timestamp").toInstant());
+                    auditLog.setIpAddress(rs.getString("ip_address"));
+                    String status = rs.getString("status");
+                    auditLog.setStatus(status != null ? AuditLog.AuditLogStatus.valueOf(status) : null);
+                    try {
+                        writer.append(auditLog);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                Timestamp.from(start),
+                Timestamp.from(end)
+            ));
+
+            if (writer.getRowCount() > 0) {
+                writer.finish();
+            }
+            return writer.getRowCount();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private List<LocalDate> listSegmentDays() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .map(file -> AuditSegmentFormat.parseFileName(file.getFileName().toString()))
+                .filter(day -> day != null)
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private AuditSegmentReader openReader(LocalDate day) throws IOException {
+        AuditSegmentReader reader = readers.get(day);
+        if (reader != null) {
+            return reader;
+        }
+
+        Path file = directory.resolve(AuditSegmentFormat.fileName(day));
+        if (!Files.exists(file)) {
+            return null;
+        }
+        reader = AuditSegmentReader.open(file);
+        readers.put(day, reader);
+        return reader;
+    }
+}
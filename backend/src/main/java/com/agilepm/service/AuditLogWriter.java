@@ -0,0 +1,216 @@
+package com.agilepm.service;
+
+import com.agilepm.model.AuditLog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Buffers audit rows in a bounded queue and writes them in JDBC batches from a
+// single background thread, keeping the insert off the caller's transaction
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    // What submit() does when the queue is full
+    public enum OverflowPolicy {
+        DROP,         // discard the new entry and count it
+        BLOCK,        // wait up to block-timeout-ms for space, then discard
+        CALLER_RUNS   // write the entry synchronously on the calling thread
+    }
+
+    private final BlockingQueue<AuditLog> queue;
+    private final TransactionTemplate transactionTemplate;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long blockTimeoutMs;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushTotalNanos = new AtomicLong();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(
+        PlatformTransactionManager transactionManager,
+        @Value("${app.audit-log.writer.queue-capacity}") int queueCapacity,
+        @Value("${app.audit-log.writer.batch-size}") int batchSize,
+        @Value("${app.audit-log.writer.flush-interval-ms}") long flushIntervalMs,
+        @Value("${app.audit-log.writer.overflow-policy}") OverflowPolicy overflowPolicy,
+        @Value("${app.audit-log.writer.block-timeout-ms}") long blockTimeoutMs
+    ) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+    }
+
+    public void submit(AuditLog auditLog) {
+        // Once stopped nothing drains the queue, so late entries are written on the caller's thread
+        if (!running) {
+            writeBatch(Collections.singletonList(auditLog));
+            return;
+        }
+
+        if (queue.offer(auditLog)) {
+            // Raced with stop(): whichever side removes the entry writes it
+            if (!running && queue.remove(auditLog)) {
+                writeBatch(Collections.singletonList(auditLog));
+            }
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    if (queue.offer(auditLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                recordDrop(auditLog);
+                break;
+            case CALLER_RUNS:
+                writeBatch(Collections.singletonList(auditLog));
+                break;
+            default:
+                recordDrop(auditLog);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // Flush-on-shutdown: stop accepting work from the loop, then write whatever is left
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<AuditLog> remaining = new ArrayList<>();
+        while (queue.drainTo(remaining, batchSize) > 0) {
+            writeBatch(remaining);
+            remaining.clear();
+        }
+    }
+
+    // Stop after the web server's graceful shutdown (DEFAULT_PHASE) and the web server
+    // itself (DEFAULT_PHASE - 1024), so requests still in flight are audited through the queue
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getFlushTotalNanos() {
+        return flushTotalNanos.get();
+    }
+
+    private void drainLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                // stop() interrupts the poll; the remaining entries are drained there
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Sequence ids with a pooled allocator let Hibernate group the inserts into JDBC batches
+    private void writeBatch(List<AuditLog> batch) {
+        long started = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (AuditLog auditLog : batch) {
+                    entityManager.persist(auditLog);
+                }
+            });
+            writtenCount.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            logger.error("Failed to write {} audit log entries", batch.size(), e);
+        } finally {
+            flushCount.incrementAndGet();
+            flushTotalNanos.addAndGet(System.nanoTime() - started);
+        }
+    }
+
+    private void recordDrop(AuditLog auditLog) {
+        long dropped = droppedCount.incrementAndGet();
+        logger.warn("Audit log queue full, dropped entry: {} - {} (total dropped: {})",
+            auditLog.getAction(), auditLog.getEntityType(), dropped);
+    }
+}
@@ -0,0 +1,144 @@
+package com.agilepm.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Owns the monthly partitions of audit_logs: creates upcoming months ahead of time and
+// retires old ones whole instead of deleting rows. With the archive enabled a month leaves
+// the database once it is older than the hot window, after its rows are written to segment
+// files; without it the month is dropped at the retention cutoff.
+@Service
+public class AuditPartitionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPartitionManager.class);
+
+    private static final String PARTITION_PREFIX = "audit_logs_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditArchiveService auditArchiveService;
+    private final int retentionDays;
+    private final int monthsAhead;
+
+    public AuditPartitionManager(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        AuditArchiveService auditArchiveService,
+        @Value("${app.audit-log.retention-days}") int retentionDays,
+        @Value("${app.audit-log.partitions.months-ahead}") int monthsAhead
+    ) {
+        if (auditArchiveService.isEnabled() && auditArchiveService.getHotDays() > retentionDays) {
+            throw new IllegalStateException(
+                "app.audit-log.archive.hot-days must not exceed app.audit-log.retention-days");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditArchiveService = auditArchiveService;
+        this.retentionDays = retentionDays;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.audit-log.partitions.maintenance-cron}", zone = "UTC")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        retireExpiredPartitions();
+
+        if (auditArchiveService.isEnabled()) {
+            try {
+                auditArchiveService.deleteExpiredSegments();
+            } catch (IOException e) {
+                logger.error("Deleting expired audit segments failed", e);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF audit_logs FOR VALUES FROM ('%s') TO ('%s')",
+            partitionName(month),
+            lowerBound(month),
+            lowerBound(month.plusMonths(1))
+        ));
+    }
+
+    // A partition leaves the database only when its entire month is older than the cutoff
+    private void retireExpiredPartitions() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate retentionCutoff = today.minusDays(retentionDays);
+        LocalDate cutoff = auditArchiveService.isEnabled()
+            ? today.minusDays(auditArchiveService.getHotDays())
+            : retentionCutoff;
+
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'audit_logs' AND c.relname LIKE '" + PARTITION_PREFIX + "%'",
+            String.class
+        );
+
+        for (String partition : partitions) {
+            YearMonth month;
+            try {
+                month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+            } catch (RuntimeException e) {
+                continue;
+            }
+
+            LocalDate monthEnd = month.plusMonths(1).atDay(1);
+            if (monthEnd.isAfter(cutoff)) {
+                continue;
+            }
+
+            // Months already past retention are dropped without writing segments that would expire at once
+            if (auditArchiveService.isEnabled() && monthEnd.isAfter(retentionCutoff)) {
+                try {
+                    auditArchiveService.archivePartition(partition, month);
+                } catch (IOException | RuntimeException e) {
+                    // Keep the partition; the next run retries the days still missing
+                    logger.error("Archiving audit log partition {} failed", partition, e);
+                    continue;
+                }
+            }
+
+            // Detach first so readers of audit_logs stop seeing the month before the table goes
+            transactionTemplate.executeWithoutResult(tx -> {
+                jdbcTemplate.execute("ALTER TABLE audit_logs DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            });
+            logger.info("Dropped audit log partition {}", partition);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String lowerBound(YearMonth month) {
+        return month.atDay(1) + " 00:00:00+00";
+    }
+}
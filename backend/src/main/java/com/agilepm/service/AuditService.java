@@ -1,11 +1,18 @@
 package com.agilepm.service;
 
+import com.agilepm.dto.AuditLogDTO;
+import com.agilepm.dto.CursorPage;
+import com.agilepm.exception.BusinessValidationException;
 import com.agilepm.model.AuditLog;
 import com.agilepm.repository.AuditLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -14,7 +21,13 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.agilepm.repository.AuditLogSpecifications.*;
 
 @Service
 public class AuditService {
@@ -22,13 +35,27 @@ public class AuditService {
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final AuditArchiveService auditArchiveService;
+
+    @Value("${app.pagination.default-page-size}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
 
     @Autowired
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(
+        AuditLogRepository auditLogRepository,
+        AuditLogWriter auditLogWriter,
+        AuditArchiveService auditArchiveService
+    ) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogWriter = auditLogWriter;
+        this.auditArchiveService = auditArchiveService;
     }
 
-    @Transactional
+    // Username and IP are captured on the calling thread; the insert happens asynchronously
     public void logAuthenticationEvent(
         String action, 
         String entityType, 
@@ -49,11 +76,10 @@ public class AuditService {
             status
         );
 
-        auditLogRepository.save(auditLog);
+        auditLogWriter.submit(auditLog);
         logger.info("Audit Log: {} - {} - {}", action, entityType, status);
     }
 
-    @Transactional
     public void logEntityEvent(
         String action, 
         String entityType, 
@@ -75,20 +101,146 @@ public class AuditService {
             status
         );
 
-        auditLogRepository.save(auditLog);
+        auditLogWriter.submit(auditLog);
         logger.info("Audit Log: {} - {} - {} - {}", action, entityType, entityId, status);
     }
 
+    // Query methods return archived rows (oldest first) followed by rows still in the database
     public List<AuditLog> getAuditLogsByUsername(String username) {
-        return auditLogRepository.findByUsername(username);
+        return union(
+            auditArchiveService.find(username, null, null, null),
+            auditLogRepository.findByUsername(username)
+        );
     }
 
     public List<AuditLog> getAuditLogsByEntityType(String entityType) {
-        return auditLogRepository.findByEntityType(entityType);
+        return union(
+            auditArchiveService.find(null, entityType, null, null),
+            auditLogRepository.findByEntityType(entityType)
+        );
     }
 
     public List<AuditLog> getAuditLogsBetweenDates(Instant start, Instant end) {
-        return auditLogRepository.findByTimestampBetween(start, end);
+        return union(
+            auditArchiveService.find(null, null, start, inclusiveEnd(end)),
+            auditLogRepository.findByTimestampBetween(start, end)
+        );
+    }
+
+    public List<AuditLog> getAuditLogsByUsernameBetweenDates(String username, Instant start, Instant end) {
+        return union(
+            auditArchiveService.find(username, null, start, inclusiveEnd(end)),
+            auditLogRepository.findByUsernameAndTimestampBetweenOrderByTimestampAsc(username, start, end)
+        );
+    }
+
+    public List<AuditLog> getAuditLogsByEntityTypeBetweenDates(String entityType, Instant start, Instant end) {
+        return union(
+            auditArchiveService.find(null, entityType, start, inclusiveEnd(end)),
+            auditLogRepository.findByEntityTypeAndTimestampBetweenOrderByTimestampAsc(entityType, start, end)
+        );
+    }
+
+    // Newest first; the cursor carries the (timestamp, id) of the last row returned
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public CursorPage<AuditLogDTO> searchAuditLogs(
+        String username,
+        String action,
+        String entityType,
+        String entityId,
+        AuditLog.AuditLogStatus status,
+        Instant from,
+        Instant to,
+        String cursor,
+        Integer limit
+    ) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessValidationException("'from' must be before 'to'");
+        }
+
+        Instant afterTimestamp = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorPage.decodeCursor(cursor, 2);
+            try {
+                afterTimestamp = Instant.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new BusinessValidationException("Invalid pagination cursor");
+            }
+        }
+
+        Specification<AuditLog> spec = Specification.where(hasUsername(username))
+            .and(hasAction(action))
+            .and(hasEntityType(entityType))
+            .and(hasEntityId(entityId))
+            .and(hasStatus(status))
+            .and(timestampFrom(from))
+            .and(timestampBefore(to))
+            .and(olderThan(afterTimestamp, afterId));
+
+        int pageSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        Sort sort = Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("id"));
+
+        // limit() avoids the count query a Page would issue
+        List<AuditLog> rows = new ArrayList<>(
+            auditLogRepository.findBy(spec, query -> query.sortBy(sort).limit(pageSize + 1).all())
+        );
+
+        // Archived rows are all older than the database rows, so the page continues into the archive
+        if (rows.size() <= pageSize && auditArchiveService.isEnabled()) {
+            Instant beforeTimestamp = afterTimestamp;
+            Long beforeId = afterId;
+            if (!rows.isEmpty()) {
+                beforeTimestamp = rows.get(rows.size() - 1).getTimestamp();
+                beforeId = rows.get(rows.size() - 1).getId();
+            }
+            rows.addAll(auditArchiveService.search(
+                username, action, entityType, entityId, status, from, to,
+                beforeTimestamp, beforeId, pageSize + 1 - rows.size()
+            ));
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<AuditLog> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            AuditLog last = page.get(page.size() - 1);
+            nextCursor = CursorPage.encodeCursor(last.getTimestamp(), last.getId());
+        }
+
+        List<AuditLogDTO> items = page.stream()
+            .map(AuditLogDTO::new)
+            .collect(Collectors.toList());
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // Drops database rows already present in the archive, which only happens while a day is being rolled
+    private List<AuditLog> union(List<AuditLog> archived, List<AuditLog> hot) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        Set<Long> archivedIds = new HashSet<>();
+        for (AuditLog auditLog : archived) {
+            archivedIds.add(auditLog.getId());
+        }
+
+        List<AuditLog> result = new ArrayList<>(archived.size() + hot.size());
+        result.addAll(archived);
+        for (AuditLog auditLog : hot) {
+            if (!archivedIds.contains(auditLog.getId())) {
+                result.add(auditLog);
+            }
+        }
+        return result;
+    }
+
+    // Archive ranges are half-open; the Between finders include their upper bound
+    private static Instant inclusiveEnd(Instant end) {
+        return end != null ? end.plusNanos(1000) : null;
     }
 
     private String getCurrentRequestIpAddress() {
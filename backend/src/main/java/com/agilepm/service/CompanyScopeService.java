@@ -0,0 +1,42 @@
+package com.agilepm.service;
+
+import com.agilepm.exception.UnauthorizedException;
+import com.agilepm.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+// Resolves the company whose data the current caller may read
+@Service
+public class CompanyScopeService {
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public CompanyScopeService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // The caller's company id, or null for an admin who belongs to no company (unscoped)
+    public Long currentCompanyId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw UnauthorizedException.authenticationRequired();
+        }
+
+        Optional<Long> companyId = userRepository.findCompanyIdByEmail(authentication.getName());
+        if (companyId.isPresent()) {
+            return companyId.get();
+        }
+
+        boolean admin = authentication.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        if (!admin) {
+            throw new UnauthorizedException("User is not assigned to a company");
+        }
+        return null;
+    }
+}
@@ -6,6 +6,7 @@ import com.agilepm.model.PasswordResetToken;
 import com.agilepm.model.User;
 import com.agilepm.repository.PasswordResetTokenRepository;
 import com.agilepm.repository.UserRepository;
+import com.agilepm.security.TokenRevocationRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,18 +26,21 @@ public class PasswordResetService {
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final TokenRevocationRegistry revocationRegistry;
 
     @Autowired
     public PasswordResetService(
         UserRepository userRepository,
         PasswordResetTokenRepository passwordResetTokenRepository,
         PasswordEncoder passwordEncoder,
-        EmailService emailService
+        EmailService emailService,
+        TokenRevocationRegistry revocationRegistry
     ) {
         this.userRepository = userRepository;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailService = emailService;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Transactional
@@ -73,6 +77,7 @@ public class PasswordResetService {
         User user = resetToken.getUser();
         user.setPassword(passwordEncoder.encode(passwordResetDTO.getNewPassword()));
         userRepository.save(user);
+        revocationRegistry.revokeUser(user.getEmail());
 
         // Mark token as used
         resetToken.setUsed(true);
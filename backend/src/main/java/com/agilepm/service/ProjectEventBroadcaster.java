@@ -0,0 +1,346 @@
+package com.agilepm.service;
+
+import com.agilepm.dto.BoardEventDTO;
+import com.agilepm.dto.CommentDTO;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.event.CommentAddedEvent;
+import com.agilepm.event.CommentDeletedEvent;
+import com.agilepm.event.TaskChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fans committed task and comment changes out to the SSE subscribers of each project.
+// Publishing only enqueues: every subscriber has a bounded queue drained by a small sender
+// pool, so a slow connection never holds up the request that made the change. A subscriber
+// whose queue overflows, or whose connection stops accepting writes, is disconnected and is
+// expected to reconnect and reload the board.
+@Component
+public class ProjectEventBroadcaster implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventBroadcaster.class);
+
+    // Comment lines are ignored by EventSource but keep proxies from closing idle connections
+    private static final OutboundEvent HEARTBEAT = new OutboundEvent(null, null);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int senderThreads;
+    private final long connectionTimeoutMs;
+    private final long sendTimeoutNanos;
+
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private ExecutorService sender;
+
+    public ProjectEventBroadcaster(
+        ObjectMapper objectMapper,
+        @Value("${app.events.buffer-size}") int bufferSize,
+        @Value("${app.events.sender-threads}") int senderThreads,
+        @Value("${app.events.connection-timeout-ms}") long connectionTimeoutMs,
+        @Value("${app.events.send-timeout-ms}") long sendTimeoutMs
+    ) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.senderThreads = senderThreads;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+    }
+
+    // The first event tells the client to load the board; deltas follow from there
+    public SseEmitter subscribe(Long projectId) {
+        SseEmitter emitter = new SseEmitter(connectionTimeoutMs);
+        Subscriber subscriber = new Subscriber(projectId, emitter, bufferSize);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+
+        subscribers.compute(projectId, (id, set) -> {
+            Set<Subscriber> result = set != null ? set : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+        enqueue(subscriber, new OutboundEvent("ready", "{\"projectId\":" + projectId + "}"));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskDTO task = event.task();
+        BoardEventDTO delta;
+        switch (event.type()) {
+            case CREATED:
+                delta = new BoardEventDTO(BoardEventDTO.Type.TASK_CREATED, task.getId());
+                delta.setTask(task);
+                break;
+            case STATUS_CHANGED:
+                delta = new BoardEventDTO(BoardEventDTO.Type.TASK_STATUS_CHANGED, task.getId());
+                delta.setStatus(task.getStatus());
+                delta.setVersion(task.getVersion());
+                break;
+            case ASSIGNED:
+                delta = new BoardEventDTO(BoardEventDTO.Type.TASK_ASSIGNED, task.getId());
+                delta.setAssignedToId(task.getAssignedToId());
+                delta.setVersion(task.getVersion());
+                break;
+            case DELETED:
+                delta = new BoardEventDTO(BoardEventDTO.Type.TASK_REMOVED, task.getId());
+                break;
+            default:
+                delta = new BoardEventDTO(BoardEventDTO.Type.TASK_UPDATED, task.getId());
+                delta.setTask(task);
+        }
+
+        if (event.previousProjectId() != null) {
+            publish(event.previousProjectId(), new BoardEventDTO(BoardEventDTO.Type.TASK_REMOVED, task.getId()));
+        }
+        publish(task.getProjectId(), delta);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentAdded(CommentAddedEvent event) {
+        CommentDTO comment = event.comment();
+        BoardEventDTO delta = new BoardEventDTO(BoardEventDTO.Type.COMMENT_ADDED, comment.getTaskId());
+        delta.setComment(comment);
+        publish(event.projectId(), delta);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        CommentDTO comment = event.comment();
+        BoardEventDTO delta = new BoardEventDTO(BoardEventDTO.Type.COMMENT_DELETED, comment.getTaskId());
+        delta.setCommentId(comment.getId());
+        publish(event.projectId(), delta);
+    }
+
+    // Serialized once per change, however many subscribers the project has
+    public void publish(Long projectId, BoardEventDTO delta) {
+        Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+        if (projectSubscribers == null || projectSubscribers.isEmpty()) {
+            return;
+        }
+
+        OutboundEvent event;
+        try {
+            event = new OutboundEvent(delta.getType().name(), objectMapper.writeValueAsString(delta));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize {} event for project {}", delta.getType(), projectId, e);
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            enqueue(subscriber, event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    // A write to a stalled client blocks its sender thread until the container's socket write
+    // timeout fires; dropping the subscriber here stops it from buffering further events meanwhile,
+    // and the sender thread closes the connection as soon as the write returns
+    @Scheduled(fixedDelayString = "${app.events.send-timeout-ms}")
+    public void evictBlockedSubscribers() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                long started = subscriber.sendStartedNanos;
+                if (started != 0 && now - started > sendTimeoutNanos) {
+                    evict(subscriber);
+                    logger.debug("Dropped blocked event subscriber of project {}", subscriber.projectId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "project-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+    }
+
+    // Open connections are closed so clients reconnect to whichever instance takes over
+    @Override
+    public void stop() {
+        running = false;
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                unregister(subscriber);
+                complete(subscriber);
+            }
+        }
+        if (sender != null) {
+            sender.shutdownNow();
+            try {
+                sender.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    private void enqueue(Subscriber subscriber, OutboundEvent event) {
+        if (subscriber.closed || !running) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            // Slow consumer: stop buffering for it; the sender thread closes the connection
+            evict(subscriber);
+            logger.debug("Dropped slow event subscriber of project {}", subscriber.projectId);
+        }
+        schedule(subscriber);
+    }
+
+    private void evict(Subscriber subscriber) {
+        if (subscriber.evicted) {
+            return;
+        }
+        subscriber.evicted = true;
+        subscriber.closed = true;
+        evictedCount.incrementAndGet();
+        unregister(subscriber);
+    }
+
+    // At most one drain per subscriber is queued or running, which keeps its events in order
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RuntimeException e) {
+                // Rejected during shutdown
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            OutboundEvent event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+            if (subscriber.evicted) {
+                subscriber.queue.clear();
+                complete(subscriber);
+            }
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        // Work that arrived after the last poll but before the flag was cleared
+        boolean pending = subscriber.evicted
+            ? !subscriber.completed.get()
+            : !subscriber.closed && !subscriber.queue.isEmpty();
+        if (pending) {
+            schedule(subscriber);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        if (subscriber.completed.compareAndSet(false, true)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void send(Subscriber subscriber, OutboundEvent event) {
+        SseEmitter.SseEventBuilder builder = event == HEARTBEAT
+            ? SseEmitter.event().comment("heartbeat")
+            : SseEmitter.event().name(event.name()).data(event.data());
+        subscriber.sendStartedNanos = System.nanoTime();
+        try {
+            subscriber.emitter.send(builder);
+            deliveredCount.incrementAndGet();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the write timed out; the container reports completion to the emitter callbacks
+            subscriber.closed = true;
+            unregister(subscriber);
+        } finally {
+            subscriber.sendStartedNanos = 0;
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscriber.registered.compareAndSet(true, false)) {
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(subscriber.projectId, (id, set) -> {
+                set.remove(subscriber);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    // name and data are null for a heartbeat
+    private record OutboundEvent(String name, String data) {}
+
+    private static final class Subscriber {
+        final Long projectId;
+        final SseEmitter emitter;
+        final BlockingQueue<OutboundEvent> queue;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean registered = new AtomicBoolean(true);
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile boolean closed;
+        volatile boolean evicted;
+        // System.nanoTime() when the current write began, 0 while no write is in progress
+        volatile long sendStartedNanos;
+
+        Subscriber(Long projectId, SseEmitter emitter, int bufferSize) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.agilepm.service;
 
+import com.agilepm.dto.BoardDTO;
 import com.agilepm.dto.ProjectDTO;
 import com.agilepm.dto.TaskDTO;
 import com.agilepm.model.Project;
+import com.agilepm.model.Task;
 
 import java.util.List;
 
@@ -14,6 +16,8 @@ public interface ProjectService {
     List<ProjectDTO> getAllProjects();
     List<ProjectDTO> getProjectsByCompany(Long companyId);
     List<TaskDTO> getProjectTasks(Long projectId);
+    BoardDTO getProjectBoard(Long projectId, Integer cardsPerColumn);
+    void setColumnWipLimit(Long projectId, Task.TaskStatus status, Integer wipLimit);
     ProjectDTO assignProjectManager(Long projectId, Long userId);
     void addProjectMember(Long projectId, Long userId);
     void removeProjectMember(Long projectId, Long userId);
@@ -0,0 +1,172 @@
+package com.agilepm.service;
+
+import com.agilepm.dto.BurndownPointDTO;
+import com.agilepm.dto.SprintVelocityDTO;
+import com.agilepm.model.Sprint;
+import com.agilepm.model.SprintBurndownSnapshot;
+import com.agilepm.model.Task;
+import com.agilepm.repository.SprintBurndownSnapshotRepository;
+import com.agilepm.repository.SprintRepository;
+import com.agilepm.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SprintMetricsService {
+
+    private final SprintBurndownSnapshotRepository snapshotRepository;
+    private final SprintRepository sprintRepository;
+    private final TaskRepository taskRepository;
+
+    @Autowired
+    public SprintMetricsService(
+        SprintBurndownSnapshotRepository snapshotRepository,
+        SprintRepository sprintRepository,
+        TaskRepository taskRepository
+    ) {
+        this.snapshotRepository = snapshotRepository;
+        this.sprintRepository = sprintRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    // Called from the task write path; keeps today's snapshot in step with DONE transitions
+    @Transactional
+    public void onTaskStatusChanged(Long sprintId, Task.TaskStatus oldStatus, Task.TaskStatus newStatus) {
+        if (sprintId == null) {
+            return;
+        }
+
+        boolean wasDone = oldStatus == Task.TaskStatus.DONE;
+        boolean isDone = newStatus == Task.TaskStatus.DONE;
+        if (wasDone == isDone) {
+            return;
+        }
+
+        int completedDelta = isDone ? 1 : -1;
+        applyDelta(sprintId, -completedDelta, completedDelta);
+    }
+
+    // Called when a sprint task is deleted; the task leaves the remaining or completed count
+    @Transactional
+    public void onTaskRemoved(Long sprintId, Task.TaskStatus status) {
+        if (sprintId == null) {
+            return;
+        }
+
+        boolean done = status == Task.TaskStatus.DONE;
+        applyDelta(sprintId, done ? 0 : -1, done ? -1 : 0);
+    }
+
+    private void applyDelta(Long sprintId, int remainingDelta, int completedDelta) {
+        // Seed a new day from the previous snapshot plus this change; the very first
+        // snapshot is counted from the tasks table, which already reflects the change
+        int seedRemaining;
+        int seedCompleted;
+        Optional<SprintBurndownSnapshot> previous = snapshotRepository.findTopBySprint_IdOrderBySnapshotDateDesc(sprintId);
+        if (previous.isPresent()) {
+            seedRemaining = previous.get().getRemainingTasks() + remainingDelta;
+            seedCompleted = previous.get().getCompletedTasks() + completedDelta;
+        } else {
+            seedCompleted = (int) taskRepository.countBySprint_IdAndStatus(sprintId, Task.TaskStatus.DONE);
+            seedRemaining = (int) taskRepository.countBySprint_Id(sprintId) - seedCompleted;
+        }
+
+        snapshotRepository.upsertDelta(
+            sprintId, LocalDate.now(), seedRemaining, seedCompleted, remainingDelta, completedDelta
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<BurndownPointDTO> getBurndown(Long sprintId) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+            .orElseThrow(() -> new RuntimeException("Sprint not found"));
+
+        List<SprintBurndownSnapshot> snapshots = snapshotRepository.findBySprint_IdOrderBySnapshotDateAsc(sprintId);
+        LocalDate today = LocalDate.now();
+        LocalDate start = sprint.getStartDate().toLocalDate();
+        LocalDate end = sprint.getEndDate().toLocalDate();
+        if (end.isAfter(today)) {
+            end = today;
+        }
+        if (start.isAfter(end)) {
+            // Sprint has not started yet: a single point for today
+            start = end;
+        }
+
+        // Days before the first move show the full scope outstanding; with no snapshot at
+        // all nothing has moved, so the live counts hold for every day of the sprint
+        int remaining;
+        int completed;
+        if (snapshots.isEmpty()) {
+            completed = (int) taskRepository.countBySprint_IdAndStatus(sprintId, Task.TaskStatus.DONE);
+            remaining = (int) taskRepository.countBySprint_Id(sprintId) - completed;
+        } else {
+            SprintBurndownSnapshot first = snapshots.get(0);
+            remaining = first.getRemainingTasks() + first.getCompletedTasks();
+            completed = 0;
+        }
+
+        // Walk the days once from the sprint start, carrying the last known snapshot over days without moves
+        List<BurndownPointDTO> points = new ArrayList<>();
+        int index = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            while (index < snapshots.size() && !snapshots.get(index).getSnapshotDate().isAfter(day)) {
+                SprintBurndownSnapshot current = snapshots.get(index++);
+                remaining = current.getRemainingTasks();
+                completed = current.getCompletedTasks();
+            }
+            points.add(new BurndownPointDTO(day, remaining, completed));
+        }
+        return points;
+    }
+
+    @Transactional(readOnly = true)
+    public List<SprintVelocityDTO> getProjectVelocity(Long projectId, int sprintCount) {
+        List<Sprint> sprints = sprintRepository.findByProject_IdAndStatusOrderByEndDateDesc(
+            projectId, Sprint.SprintStatus.COMPLETED, PageRequest.of(0, sprintCount)
+        );
+        if (sprints.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, SprintBurndownSnapshot> latest = snapshotRepository
+            .findLatestBySprintIds(sprints.stream().map(Sprint::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(s -> s.getSprint().getId(), Function.identity()));
+
+        // Sprints closed without any recorded move (or before snapshots existed) fall back to
+        // counting their DONE tasks directly
+        List<Long> unsnapshotted = sprints.stream()
+            .map(Sprint::getId)
+            .filter(id -> !latest.containsKey(id))
+            .collect(Collectors.toList());
+        Map<Long, Integer> doneCounts = new HashMap<>();
+        if (!unsnapshotted.isEmpty()) {
+            for (Object[] row : taskRepository.countBySprintIdsAndStatus(unsnapshotted, Task.TaskStatus.DONE)) {
+                doneCounts.put((Long) row[0], ((Long) row[1]).intValue());
+            }
+        }
+
+        return sprints.stream()
+            .map(sprint -> new SprintVelocityDTO(
+                sprint.getId(),
+                sprint.getStartDate(),
+                sprint.getEndDate(),
+                latest.containsKey(sprint.getId())
+                    ? latest.get(sprint.getId()).getCompletedTasks()
+                    : doneCounts.getOrDefault(sprint.getId(), 0)
+            ))
+            .collect(Collectors.toList());
+    }
+}
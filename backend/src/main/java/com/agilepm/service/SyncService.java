@@ -0,0 +1,273 @@
+package com.agilepm.service;
+
+import com.agilepm.dto.CommentDTO;
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.SprintDTO;
+import com.agilepm.dto.SyncDTO;
+import com.agilepm.dto.SyncTombstoneDTO;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.ConflictException;
+import com.agilepm.model.Sprint;
+import com.agilepm.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+// Delta sync for offline clients. Tasks, comments, sprints and tombstones are four
+// streams, each read in (transaction id, id) order after the client's position in it;
+// the watermark is those four positions. Rows are only read below the xmin of the
+// current snapshot: every transaction under it has finished, so no row can still
+// commit behind a position, however long its transaction ran. A long write only
+// holds the streams back until it ends.
+@Service
+public class SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final String SELECT_TASKS =
+        "SELECT t.id, t.title, t.description, t.project_id, t.assigned_to, t.sprint_id, t.status, " +
+        "t.priority, t.due_date, t.created_at, t.version, t.comment_count, t.updated_xid::text AS xid " +
+        "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+        "WHERE (t.updated_xid, t.id) > (?::xid8, ?) AND t.updated_xid < ?::xid8";
+
+    private static final String SELECT_COMMENTS =
+        "SELECT c.id, c.task_id, c.user_id, u.name AS user_name, c.message, c.timestamp, c.updated_xid::text AS xid " +
+        "FROM comments c JOIN users u ON u.id = c.user_id " +
+        "JOIN tasks t ON t.id = c.task_id JOIN projects p ON p.id = t.project_id " +
+        "WHERE (c.updated_xid, c.id) > (?::xid8, ?) AND c.updated_xid < ?::xid8";
+
+    private static final String SELECT_SPRINTS =
+        "SELECT s.id, s.project_id, s.start_date, s.end_date, s.status, s.created_at, s.version, s.updated_xid::text AS xid " +
+        "FROM sprints s JOIN projects p ON p.id = s.project_id " +
+        "WHERE (s.updated_xid, s.id) > (?::xid8, ?) AND s.updated_xid < ?::xid8";
+
+    private static final String SELECT_TOMBSTONES =
+        "SELECT d.id, d.entity_type, d.entity_id, d.project_id, d.deleted_at, d.deleted_xid::text AS xid " +
+        "FROM sync_tombstones d " +
+        "WHERE (d.deleted_xid, d.id) > (?::xid8, ?) AND d.deleted_xid < ?::xid8";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+
+    @Value("${app.pagination.default-page-size}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
+
+    public SyncService(
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.sync.tombstone-retention-days}") int retentionDays
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+    }
+
+    // companyId null syncs every company; limit applies to each stream
+    @Transactional(readOnly = true)
+    public SyncDTO changesSince(String watermark, Long companyId, Integer limit) {
+        int batchSize = limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+        // Taken in its own statement, so the reads that follow see every transaction below the cutoff
+        Snapshot snapshot = jdbcTemplate.queryForObject(
+            "SELECT pg_snapshot_xmin(pg_current_snapshot())::text AS xmin, clock_timestamp() AS now",
+            (rs, rowNum) -> new Snapshot(
+                Long.parseLong(rs.getString("xmin")),
+                rs.getObject("now", OffsetDateTime.class).toInstant()
+            ));
+        long cutoff = snapshot.xmin();
+        Instant now = snapshot.now();
+
+        Position[] from;
+        Instant tombstonesDrainedAt;
+        if (watermark == null || watermark.isBlank()) {
+            // A client with no data has nothing to delete, so tombstones start at the cutoff
+            Position start = new Position(0, 0);
+            from = new Position[] {start, start, start, Position.drainedAt(cutoff)};
+            tombstonesDrainedAt = now;
+        } else {
+            Watermark decoded = decodeWatermark(watermark);
+            from = decoded.positions();
+            tombstonesDrainedAt = decoded.tombstonesDrainedAt();
+            if (tombstonesDrainedAt.isBefore(now.minus(retentionDays, ChronoUnit.DAYS))) {
+                throw new ConflictException("Sync watermark has expired; sync again without one");
+            }
+        }
+
+        SyncDTO result = new SyncDTO();
+        Position[] to = new Position[4];
+        to[0] = fetch(SELECT_TASKS, "t", from[0], cutoff, companyId, batchSize, this::mapTask, result.getTasks());
+        to[1] = fetch(SELECT_COMMENTS, "c", from[1], cutoff, companyId, batchSize, this::mapComment, result.getComments());
+        to[2] = fetch(SELECT_SPRINTS, "s", from[2], cutoff, companyId, batchSize, this::mapSprint, result.getSprints());
+        to[3] = fetch(SELECT_TOMBSTONES, "d", from[3], cutoff, companyId, batchSize, this::mapTombstone, result.getDeleted());
+        if (to[3].drained()) {
+            tombstonesDrainedAt = now;
+        }
+
+        boolean hasMore = false;
+        for (Position position : to) {
+            hasMore |= !position.drained();
+        }
+        result.setHasMore(hasMore);
+        result.setWatermark(encodeWatermark(new Watermark(to, tombstonesDrainedAt)));
+        return result;
+    }
+
+    // Clients that last caught up on tombstones longer ago than the retention get a 409 and resync
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron}", zone = "UTC")
+    public void purgeTombstones() {
+        int purged = jdbcTemplate.update(
+            "DELETE FROM sync_tombstones WHERE deleted_at < clock_timestamp() - make_interval(days => ?)",
+            retentionDays);
+        if (purged > 0) {
+            logger.info("Purged {} sync tombstones older than {} days", purged, retentionDays);
+        }
+    }
+
+    // Reads one more row than the batch to learn whether the stream has more before the cutoff
+    private <T> Position fetch(
+        String select,
+        String alias,
+        Position after,
+        long cutoff,
+        Long companyId,
+        int batchSize,
+        RowMapper<T> mapper,
+        List<T> out
+    ) {
+        List<Object> args = new ArrayList<>();
+        args.add(Long.toString(after.xid()));
+        args.add(after.id());
+        args.add(Long.toString(cutoff));
+        StringBuilder sql = new StringBuilder(select);
+        if (companyId != null) {
+            sql.append(alias.equals("d") ? " AND d.company_id = ?" : " AND p.company_id = ?");
+            args.add(companyId);
+        }
+        sql.append(" ORDER BY ").append(alias).append(alias.equals("d") ? ".deleted_xid, " : ".updated_xid, ")
+            .append(alias).append(".id LIMIT ?");
+        args.add(batchSize + 1);
+
+        List<Position> positions = new ArrayList<>();
+        List<T> rows = jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            positions.add(new Position(Long.parseLong(rs.getString("xid")), rs.getLong("id")));
+            return mapper.mapRow(rs, rowNum);
+        }, args.toArray());
+
+        if (rows.size() > batchSize) {
+            out.addAll(rows.subList(0, batchSize));
+            return positions.get(batchSize - 1);
+        }
+        out.addAll(rows);
+        return Position.drainedAt(cutoff);
+    }
+
+    private TaskDTO mapTask(ResultSet rs, int rowNum) throws SQLException {
+        String status = rs.getString("status");
+        String priority = rs.getString("priority");
+        return new TaskDTO(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getLong("project_id"),
+            rs.getObject("assigned_to", Long.class),
+            rs.getObject("sprint_id", Long.class),
+            status != null ? Task.TaskStatus.valueOf(status) : null,
+            priority != null ? Task.TaskPriority.valueOf(priority) : null,
+            rs.getObject("due_date", LocalDateTime.class),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getLong("version"),
+            rs.getInt("comment_count")
+        );
+    }
+
+    private CommentDTO mapComment(ResultSet rs, int rowNum) throws SQLException {
+        return new CommentDTO(
+            rs.getLong("id"),
+            rs.getLong("task_id"),
+            rs.getLong("user_id"),
+            rs.getString("user_name"),
+            rs.getString("message"),
+            rs.getObject("timestamp", LocalDateTime.class)
+        );
+    }
+
+    private SprintDTO mapSprint(ResultSet rs, int rowNum) throws SQLException {
+        String status = rs.getString("status");
+        SprintDTO sprint = new SprintDTO();
+        sprint.setId(rs.getLong("id"));
+        sprint.setProjectId(rs.getLong("project_id"));
+        sprint.setStartDate(rs.getObject("start_date", LocalDateTime.class));
+        sprint.setEndDate(rs.getObject("end_date", LocalDateTime.class));
+        sprint.setStatus(status != null ? Sprint.SprintStatus.valueOf(status) : null);
+        sprint.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        sprint.setVersion(rs.getLong("version"));
+        return sprint;
+    }
+
+    private SyncTombstoneDTO mapTombstone(ResultSet rs, int rowNum) throws SQLException {
+        return new SyncTombstoneDTO(
+            SyncTombstoneDTO.EntityType.valueOf(rs.getString("entity_type")),
+            rs.getLong("entity_id"),
+            rs.getObject("project_id", Long.class),
+            rs.getObject("deleted_at", OffsetDateTime.class).toInstant()
+        );
+    }
+
+    // Four (transaction id, id) pairs: tasks, comments, sprints, tombstones; then the
+    // epoch micros at which the tombstone stream was last read to its end
+    private static String encodeWatermark(Watermark watermark) {
+        Position[] positions = watermark.positions();
+        Object[] parts = new Object[positions.length * 2 + 1];
+        for (int i = 0; i < positions.length; i++) {
+            parts[i * 2] = positions[i].xid();
+            parts[i * 2 + 1] = positions[i].id();
+        }
+        parts[parts.length - 1] = ChronoUnit.MICROS.between(Instant.EPOCH, watermark.tombstonesDrainedAt());
+        return CursorPage.encodeCursor(parts);
+    }
+
+    private static Watermark decodeWatermark(String watermark) {
+        String[] parts = CursorPage.decodeCursor(watermark, 9);
+        Position[] positions = new Position[4];
+        try {
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = new Position(Long.parseLong(parts[i * 2]), Long.parseLong(parts[i * 2 + 1]));
+            }
+            Instant tombstonesDrainedAt = Instant.EPOCH.plus(Long.parseLong(parts[8]), ChronoUnit.MICROS);
+            return new Watermark(positions, tombstonesDrainedAt);
+        } catch (NumberFormatException | ArithmeticException | DateTimeException e) {
+            throw new BusinessValidationException("Invalid sync watermark");
+        }
+    }
+
+    private record Snapshot(long xmin, Instant now) {}
+
+    private record Watermark(Position[] positions, Instant tombstonesDrainedAt) {}
+
+    // A stream read to the cutoff sits after every row written by a transaction below it
+    private record Position(long xid, long id) {
+        static Position drainedAt(long cutoff) {
+            return new Position(cutoff - 1, Long.MAX_VALUE);
+        }
+
+        boolean drained() {
+            return id == Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.agilepm.service;
+
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.SearchHitDTO;
+
+public interface TaskSearchService {
+    // companyId null searches every company; projectId optionally narrows further
+    CursorPage<SearchHitDTO> search(String query, Long companyId, Long projectId, String cursor, Integer limit);
+    long rebuildIndex();
+}
@@ -1,23 +1,45 @@
 package com.agilepm.service;
 
 import com.agilepm.dto.CommentDTO;
+import com.agilepm.dto.CursorPage;
 import com.agilepm.dto.TaskDTO;
 import com.agilepm.model.Task;
+import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface TaskService {
     TaskDTO createTask(TaskDTO taskDTO);
-    TaskDTO updateTask(Long taskId, TaskDTO taskDTO);
+    List<TaskDTO> createTasks(List<TaskDTO> taskDTOs);
+    List<TaskDTO> updateTasks(List<TaskDTO> taskDTOs);
+    TaskDTO updateTask(Long taskId, TaskDTO taskDTO, Long expectedVersion);
+    TaskDTO patchTask(Long taskId, JsonNode mergePatch, Long expectedVersion);
     void deleteTask(Long taskId);
     TaskDTO getTaskById(Long taskId);
-    List<TaskDTO> getAllTasks();
-    List<TaskDTO> getTasksByProject(Long projectId);
-    List<TaskDTO> getTasksByUser(Long userId);
-    List<TaskDTO> getTasksByStatus(Task.TaskStatus status);
-    List<TaskDTO> getTasksByPriority(Task.TaskPriority priority);
-    TaskDTO assignTask(Long taskId, Long userId);
-    TaskDTO updateTaskStatus(Long taskId, Task.TaskStatus newStatus);
-    List<CommentDTO> getTaskComments(Long taskId);
+    CursorPage<TaskDTO> getAllTasks(String cursor, Integer limit);
+    CursorPage<TaskDTO> getTasksByProject(Long projectId, String cursor, Integer limit);
+    CursorPage<TaskDTO> getTasksByUser(Long userId, String cursor, Integer limit);
+    CursorPage<TaskDTO> getTasksByStatus(Task.TaskStatus status, String cursor, Integer limit);
+    CursorPage<TaskDTO> getTasksByPriority(Task.TaskPriority priority, String cursor, Integer limit);
+    CursorPage<TaskDTO> filterTasks(
+        Long projectId,
+        Long assignedToId,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        String cursor,
+        Integer limit
+    );
+    void exportTasks(OutputStream outputStream) throws IOException;
+    TaskDTO assignTask(Long taskId, Long userId, Long expectedVersion);
+    TaskDTO updateTaskStatus(
+        Long taskId,
+        Task.TaskStatus newStatus,
+        Task.TaskStatus expectedStatus,
+        Long expectedVersion
+    );
+    CursorPage<CommentDTO> getTaskComments(Long taskId, String cursor, Integer limit);
     CommentDTO addCommentToTask(Long taskId, Long userId, String message);
+    void deleteComment(Long taskId, Long commentId);
 }
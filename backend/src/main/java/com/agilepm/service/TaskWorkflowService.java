@@ -0,0 +1,149 @@
+package com.agilepm.service;
+
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.ConflictException;
+import com.agilepm.model.Project;
+import com.agilepm.model.Task;
+import com.agilepm.repository.ProjectColumnCounterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Status transition rules per project workflow, and the per-column task counters
+// that back Kanban WIP limits. Called from every task write path.
+@Service
+public class TaskWorkflowService {
+
+    private static final Task.TaskStatus[] STATUSES = Task.TaskStatus.values();
+
+    // ALLOWED[workflow][from][to], compiled once from the tables below
+    private static final boolean[][][] ALLOWED =
+        new boolean[Project.ProjectWorkflow.values().length][STATUSES.length][STATUSES.length];
+
+    static {
+        // Scrum: work passes review before it is done; done work can be reopened
+        allow(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS);
+        allow(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.TODO, Task.TaskStatus.REVIEW);
+        allow(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.REVIEW, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.DONE);
+        allow(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.DONE, Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS);
+
+        // Kanban: cards move one column at a time, in either direction
+        allow(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS);
+        allow(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.TODO, Task.TaskStatus.REVIEW);
+        allow(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.REVIEW, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.DONE);
+        allow(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.DONE, Task.TaskStatus.REVIEW);
+
+        // Hybrid: any move
+        for (Task.TaskStatus from : STATUSES) {
+            allow(Project.ProjectWorkflow.HYBRID, from, STATUSES);
+        }
+    }
+
+    private final ProjectColumnCounterRepository counterRepository;
+
+    @Autowired
+    public TaskWorkflowService(ProjectColumnCounterRepository counterRepository) {
+        this.counterRepository = counterRepository;
+    }
+
+    private static void allow(Project.ProjectWorkflow workflow, Task.TaskStatus from, Task.TaskStatus... targets) {
+        for (Task.TaskStatus to : targets) {
+            ALLOWED[workflow.ordinal()][from.ordinal()][to.ordinal()] = true;
+        }
+    }
+
+    public static boolean isAllowed(Project.ProjectWorkflow workflow, Task.TaskStatus from, Task.TaskStatus to) {
+        // Unset statuses and projects without a workflow are not constrained
+        if (workflow == null || from == null || to == null || from == to) {
+            return true;
+        }
+        return ALLOWED[workflow.ordinal()][from.ordinal()][to.ordinal()];
+    }
+
+    public void validateTransition(Project project, Task.TaskStatus from, Task.TaskStatus to) {
+        Project.ProjectWorkflow workflow = project.getWorkflow();
+        if (!isAllowed(workflow, from, to)) {
+            throw BusinessValidationException.invalidState("task",
+                String.format("a %s project does not allow moving from %s to %s", workflow, from, to));
+        }
+    }
+
+    @Transactional
+    public void onTaskCreated(Project project, Task.TaskStatus status) {
+        ColumnChanges changes = new ColumnChanges();
+        changes.add(project, status, 1);
+        apply(changes);
+    }
+
+    @Transactional
+    public void onTaskDeleted(Project project, Task.TaskStatus status) {
+        ColumnChanges changes = new ColumnChanges();
+        changes.add(project, status, -1);
+        apply(changes);
+    }
+
+    @Transactional
+    public void onTaskMoved(
+        Project fromProject,
+        Task.TaskStatus fromStatus,
+        Project toProject,
+        Task.TaskStatus toStatus
+    ) {
+        ColumnChanges changes = new ColumnChanges();
+        changes.move(fromProject, fromStatus, toProject, toStatus);
+        apply(changes);
+    }
+
+    // Rows are touched in (project, status) order so concurrent moves cannot deadlock
+    // on each other's counter rows. Increments into a Kanban column fail as a whole
+    // when they would exceed its WIP limit.
+    @Transactional
+    public void apply(ColumnChanges changes) {
+        for (Map.Entry<Long, int[]> entry : changes.deltas.entrySet()) {
+            Long projectId = entry.getKey();
+            boolean kanban = changes.workflows.get(projectId) == Project.ProjectWorkflow.KANBAN;
+            int[] deltas = entry.getValue();
+
+            for (Task.TaskStatus status : STATUSES) {
+                int delta = deltas[status.ordinal()];
+                if (delta == 0) {
+                    continue;
+                }
+                if (delta > 0 && kanban) {
+                    if (counterRepository.incrementWithinLimit(projectId, status.name(), delta) == 0) {
+                        throw new ConflictException("WIP limit reached for column " + status);
+                    }
+                } else {
+                    counterRepository.adjustCount(projectId, status.name(), delta);
+                }
+            }
+        }
+    }
+
+    // Net column count changes of one write, applied together
+    public static class ColumnChanges {
+        private final Map<Long, int[]> deltas = new TreeMap<>();
+        private final Map<Long, Project.ProjectWorkflow> workflows = new HashMap<>();
+
+        public void add(Project project, Task.TaskStatus status, int delta) {
+            if (status == null || delta == 0) {
+                return;
+            }
+            // Workflow is captured now, while the project is still attached
+            workflows.putIfAbsent(project.getId(), project.getWorkflow());
+            deltas.computeIfAbsent(project.getId(), id -> new int[STATUSES.length])[status.ordinal()] += delta;
+        }
+
+        public void move(Project fromProject, Task.TaskStatus fromStatus, Project toProject, Task.TaskStatus toStatus) {
+            if (fromProject.getId().equals(toProject.getId()) && fromStatus == toStatus) {
+                return;
+            }
+            add(fromProject, fromStatus, -1);
+            add(toProject, toStatus, 1);
+        }
+    }
+}
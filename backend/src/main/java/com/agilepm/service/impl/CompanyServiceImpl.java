@@ -2,12 +2,14 @@ package com.agilepm.service.impl;
 
 import com.agilepm.dto.ProjectDTO;
 import com.agilepm.dto.UserDTO;
+import com.agilepm.event.CompanyDeletedEvent;
 import com.agilepm.model.Company;
 import com.agilepm.model.User;
 import com.agilepm.repository.CompanyRepository;
 import com.agilepm.repository.UserRepository;
 import com.agilepm.service.CompanyService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,14 +21,17 @@ public class CompanyServiceImpl implements CompanyService {
 
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public CompanyServiceImpl(
         CompanyRepository companyRepository, 
-        UserRepository userRepository
+        UserRepository userRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.companyRepository = companyRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -61,6 +66,7 @@ public class CompanyServiceImpl implements CompanyService {
             .orElseThrow(() -> new RuntimeException("Company not found"));
         
         companyRepository.delete(company);
+        eventPublisher.publishEvent(new CompanyDeletedEvent(companyId));
     }
 
     @Override
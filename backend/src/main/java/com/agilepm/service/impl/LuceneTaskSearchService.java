@@ -0,0 +1,539 @@
+package com.agilepm.service.impl;
+
+import com.agilepm.dto.CommentDTO;
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.SearchHitDTO;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.event.CommentAddedEvent;
+import com.agilepm.event.CommentDeletedEvent;
+import com.agilepm.event.CompanyDeletedEvent;
+import com.agilepm.event.ProjectDeletedEvent;
+import com.agilepm.event.TaskChangedEvent;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.ConflictException;
+import com.agilepm.service.TaskSearchService;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Embedded Lucene index with one document per task and per comment. Documents are
+// updated after each committed write; searches see them after the next refresh.
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "lucene", matchIfMissing = true)
+public class LuceneTaskSearchService implements TaskSearchService, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LuceneTaskSearchService.class);
+
+    // Index fields
+    private static final String KEY = "key";
+    private static final String TYPE = "type";
+    private static final String TASK_ID = "taskId";
+    private static final String COMMENT_ID = "commentId";
+    private static final String PROJECT_ID = "projectId";
+    private static final String COMPANY_ID = "companyId";
+    private static final String TITLE = "title";
+    private static final String BODY = "body";
+    private static final String GENERATION = "generation";
+
+    // Title matches outrank description and comment matches
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2.0f, BODY, 1.0f);
+
+    // Relevance first; the unique key breaks ties so search-after cursors are stable
+    private static final Sort RELEVANCE = new Sort(SortField.FIELD_SCORE, new SortField(KEY, SortField.Type.STRING));
+
+    private static final String SELECT_TASKS =
+        "SELECT t.id, t.title, t.description, t.project_id, p.company_id " +
+        "FROM tasks t JOIN projects p ON p.id = t.project_id";
+
+    private static final String SELECT_COMMENTS =
+        "SELECT c.id, c.task_id, c.message, t.project_id, p.company_id " +
+        "FROM comments c JOIN tasks t ON t.id = c.task_id JOIN projects p ON p.id = t.project_id";
+
+    @Value("${app.pagination.default-page-size}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Path indexDirectory;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Listeners write under the read lock; a rebuild takes the write lock to start and
+    // to finish, so every listener write falls clearly before, during or after it
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    // Rows changed by listeners while a rebuild streams, null otherwise; guarded by rebuildLock
+    private RebuildLog rebuildLog;
+
+    // Stamped on every document written; a rebuild bumps it and then drops older documents
+    private volatile long generation = System.currentTimeMillis();
+
+    private volatile boolean running;
+    private Directory directory;
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    public LuceneTaskSearchService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${app.search.index-directory}") String indexDirectory,
+        @Value("${app.search.rebuild-fetch-size}") int rebuildFetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(rebuildFetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.indexDirectory = Paths.get(indexDirectory);
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(indexDirectory);
+            directory = FSDirectory.open(indexDirectory);
+            indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+            searcherManager = new SearcherManager(indexWriter, null);
+            running = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open search index at " + indexDirectory, e);
+        }
+    }
+
+    // Closing the writer commits whatever is still buffered
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            searcherManager.close();
+            indexWriter.close();
+            directory.close();
+        } catch (IOException e) {
+            logger.error("Failed to close search index", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // A new or wiped index directory is filled from the database once the app is up
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (indexWriter.getDocStats().numDocs == 0) {
+            rebuildIndex();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms}")
+    public void refresh() throws IOException {
+        if (running) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms}")
+    public void commit() throws IOException {
+        if (running && indexWriter.hasUncommittedChanges()) {
+            indexWriter.commit();
+        }
+    }
+
+    // Index failures must not fail a write that has already committed; a rebuild repairs them
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskDTO task = event.task();
+        rebuildLock.readLock().lock();
+        try {
+            switch (event.type()) {
+                case DELETED:
+                    // Removes the task and its comments
+                    indexWriter.deleteDocuments(new Term(TASK_ID, task.getId().toString()));
+                    break;
+                case STATUS_CHANGED:
+                case ASSIGNED:
+                    // No indexed field changed
+                    break;
+                default:
+                    indexWriter.updateDocument(new Term(KEY, taskKey(task.getId())), taskDocument(
+                        task.getId(), task.getTitle(), task.getDescription(), task.getProjectId(), event.companyId()));
+                    if (event.previousProjectId() != null) {
+                        reindexComments(task.getId());
+                    }
+            }
+            if (rebuildLog != null) {
+                rebuildLog.taskIds.add(task.getId());
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to index task {}", task.getId(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentAdded(CommentAddedEvent event) {
+        CommentDTO comment = event.comment();
+        rebuildLock.readLock().lock();
+        try {
+            indexWriter.updateDocument(new Term(KEY, commentKey(comment.getId())), commentDocument(
+                comment.getId(), comment.getTaskId(), comment.getMessage(), event.projectId(), event.companyId()));
+            if (rebuildLog != null) {
+                rebuildLog.commentIds.add(comment.getId());
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to index comment {}", comment.getId(), e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        Long commentId = event.comment().getId();
+        rebuildLock.readLock().lock();
+        try {
+            indexWriter.deleteDocuments(new Term(KEY, commentKey(commentId)));
+            if (rebuildLog != null) {
+                rebuildLog.commentIds.add(commentId);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to remove comment {} from the index", commentId, e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // The cascade removed the project's tasks and comments without per-task events
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        purge(LongPoint.newExactQuery(PROJECT_ID, event.projectId()), "project " + event.projectId());
+    }
+
+    // Same for a company: every project, task and comment under it is gone
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCompanyDeleted(CompanyDeletedEvent event) {
+        purge(LongPoint.newExactQuery(COMPANY_ID, event.companyId()), "company " + event.companyId());
+    }
+
+    private void purge(Query query, String description) {
+        rebuildLock.readLock().lock();
+        try {
+            indexWriter.deleteDocuments(query);
+            if (rebuildLog != null) {
+                rebuildLog.purges.add(query);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to remove {} from the index", description, e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public CursorPage<SearchHitDTO> search(String queryText, Long companyId, Long projectId, String cursor, Integer limit) {
+        if (queryText == null || queryText.isBlank()) {
+            throw new BusinessValidationException("Search query is required");
+        }
+        int pageSize = resolvePageSize(limit);
+
+        // Web-search style syntax ("phrases", -exclusions, prefix*); all terms must match
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (companyId != null) {
+            query.add(LongPoint.newExactQuery(COMPANY_ID, companyId), BooleanClause.Occur.FILTER);
+        }
+        if (projectId != null) {
+            query.add(LongPoint.newExactQuery(PROJECT_ID, projectId), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs topDocs = searcher.searchAfter(
+                    decodeCursor(cursor, searcher), query.build(), pageSize + 1, RELEVANCE, true);
+                boolean hasMore = topDocs.scoreDocs.length > pageSize;
+                ScoreDoc[] page = hasMore ? Arrays.copyOf(topDocs.scoreDocs, pageSize) : topDocs.scoreDocs;
+
+                Map<String, String[]> highlights = UnifiedHighlighter.builder(searcher, analyzer).build()
+                    .highlightFields(new String[] {TITLE, BODY}, textQuery, new TopDocs(topDocs.totalHits, page));
+
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHitDTO> hits = new ArrayList<>(page.length);
+                for (int i = 0; i < page.length; i++) {
+                    hits.add(toHit(storedFields.document(page[i].doc), page[i].score,
+                        highlights.get(TITLE)[i], highlights.get(BODY)[i]));
+                }
+
+                String nextCursor = null;
+                if (hasMore) {
+                    FieldDoc last = (FieldDoc) page[page.length - 1];
+                    nextCursor = CursorPage.encodeCursor(last.fields[0], ((BytesRef) last.fields[1]).utf8ToString());
+                }
+                return new CursorPage<>(hits, nextCursor);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Streams every task and comment into the live index. Documents are replaced by key,
+    // so searches keep working meanwhile; documents the rebuild did not touch belong to
+    // deleted rows and are dropped at the end. The stream reads one snapshot, so a row
+    // a listener changes while it runs may be overwritten with its older version; those
+    // rows are logged and read again before the sweep.
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public long rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new ConflictException("A search index rebuild is already running");
+        }
+        try {
+            long start = System.currentTimeMillis();
+            AtomicLong indexed = new AtomicLong();
+            long rebuildGeneration;
+            rebuildLock.writeLock().lock();
+            try {
+                rebuildGeneration = Math.max(generation + 1, System.currentTimeMillis());
+                generation = rebuildGeneration;
+                rebuildLog = new RebuildLog();
+            } finally {
+                rebuildLock.writeLock().unlock();
+            }
+
+            // Postgres only streams with a fetch size inside a transaction
+            transactionTemplate.executeWithoutResult(tx -> {
+                jdbcTemplate.query(SELECT_TASKS, rs -> {
+                    long taskId = rs.getLong("id");
+                    index(new Term(KEY, taskKey(taskId)), taskDocument(taskId, rs.getString("title"),
+                        rs.getString("description"), rs.getLong("project_id"), rs.getLong("company_id")));
+                    indexed.incrementAndGet();
+                });
+                jdbcTemplate.query(SELECT_COMMENTS, rs -> {
+                    indexComment(rs);
+                    indexed.incrementAndGet();
+                });
+            });
+
+            // Listeners wait while the logged rows are read again, so none of them can
+            // commit a change that this replay then overwrites
+            rebuildLock.writeLock().lock();
+            try {
+                replay(rebuildLog);
+                indexWriter.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, rebuildGeneration - 1));
+            } finally {
+                rebuildLock.writeLock().unlock();
+            }
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+            logger.info("Rebuilt search index with {} documents in {} ms",
+                indexed.get(), System.currentTimeMillis() - start);
+            return indexed.get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.writeLock().lock();
+            rebuildLog = null;
+            rebuildLock.writeLock().unlock();
+            rebuilding.set(false);
+        }
+    }
+
+    // Current database state of every row a listener changed during the stream
+    private void replay(RebuildLog log) throws IOException {
+        for (Query purge : log.purges) {
+            indexWriter.deleteDocuments(purge);
+        }
+        for (Long taskId : log.taskIds) {
+            List<Long> found = jdbcTemplate.query(SELECT_TASKS + " WHERE t.id = ?", (rs, rowNum) -> {
+                index(new Term(KEY, taskKey(taskId)), taskDocument(taskId, rs.getString("title"),
+                    rs.getString("description"), rs.getLong("project_id"), rs.getLong("company_id")));
+                return taskId;
+            }, taskId);
+            if (found.isEmpty()) {
+                // Removes the task and its comments
+                indexWriter.deleteDocuments(new Term(TASK_ID, taskId.toString()));
+            } else {
+                reindexComments(taskId);
+            }
+        }
+        for (Long commentId : log.commentIds) {
+            List<Long> found = jdbcTemplate.query(SELECT_COMMENTS + " WHERE c.id = ?", (rs, rowNum) -> {
+                indexComment(rs);
+                return commentId;
+            }, commentId);
+            if (found.isEmpty()) {
+                indexWriter.deleteDocuments(new Term(KEY, commentKey(commentId)));
+            }
+        }
+    }
+
+    // Comment documents carry their task's project and company, so they follow a moved task
+    private void reindexComments(Long taskId) {
+        jdbcTemplate.query(SELECT_COMMENTS + " WHERE c.task_id = ?", rs -> {
+            indexComment(rs);
+        }, taskId);
+    }
+
+    private void indexComment(ResultSet rs) throws SQLException {
+        long commentId = rs.getLong("id");
+        index(new Term(KEY, commentKey(commentId)), commentDocument(commentId, rs.getLong("task_id"),
+            rs.getString("message"), rs.getLong("project_id"), rs.getLong("company_id")));
+    }
+
+    private void index(Term key, Document document) {
+        try {
+            indexWriter.updateDocument(key, document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document taskDocument(Long taskId, String title, String description, Long projectId, Long companyId) {
+        Document document = baseDocument(taskKey(taskId), SearchHitDTO.HitType.TASK, taskId, projectId, companyId);
+        document.add(new TextField(TITLE, title, Field.Store.YES));
+        if (description != null) {
+            document.add(new TextField(BODY, description, Field.Store.YES));
+        }
+        return document;
+    }
+
+    private Document commentDocument(Long commentId, Long taskId, String message, Long projectId, Long companyId) {
+        Document document = baseDocument(commentKey(commentId), SearchHitDTO.HitType.COMMENT, taskId, projectId, companyId);
+        document.add(new StoredField(COMMENT_ID, commentId));
+        document.add(new TextField(BODY, message, Field.Store.YES));
+        return document;
+    }
+
+    private Document baseDocument(String key, SearchHitDTO.HitType type, Long taskId, Long projectId, Long companyId) {
+        Document document = new Document();
+        document.add(new LongPoint(GENERATION, generation));
+        document.add(new StringField(KEY, key, Field.Store.NO));
+        document.add(new SortedDocValuesField(KEY, new BytesRef(key)));
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new StringField(TASK_ID, taskId.toString(), Field.Store.YES));
+        document.add(new LongPoint(PROJECT_ID, projectId));
+        document.add(new StoredField(PROJECT_ID, projectId));
+        document.add(new LongPoint(COMPANY_ID, companyId));
+        return document;
+    }
+
+    private static SearchHitDTO toHit(Document document, float score, String titleHighlight, String bodyHighlight) {
+        SearchHitDTO.HitType type = SearchHitDTO.HitType.valueOf(document.get(TYPE));
+        return new SearchHitDTO(
+            type,
+            Long.valueOf(document.get(TASK_ID)),
+            type == SearchHitDTO.HitType.COMMENT ? document.getField(COMMENT_ID).numericValue().longValue() : null,
+            document.getField(PROJECT_ID).numericValue().longValue(),
+            titleHighlight != null ? titleHighlight : document.get(TITLE),
+            bodyHighlight,
+            score
+        );
+    }
+
+    private static FieldDoc decodeCursor(String cursor, IndexSearcher searcher) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] parts = CursorPage.decodeCursor(cursor, 2);
+        try {
+            float score = Float.parseFloat(parts[0]);
+            // Ties on score are broken by the unique key; the highest doc id keeps the
+            // document with exactly that key from being returned again
+            int lastDoc = searcher.getIndexReader().maxDoc() - 1;
+            return new FieldDoc(lastDoc, score, new Object[] {score, new BytesRef(parts[1])});
+        } catch (NumberFormatException e) {
+            throw new BusinessValidationException("Invalid pagination cursor");
+        }
+    }
+
+    private static String taskKey(Long taskId) {
+        return "task:" + taskId;
+    }
+
+    private static String commentKey(Long commentId) {
+        return "comment:" + commentId;
+    }
+
+    private static class RebuildLog {
+        private final Set<Long> taskIds = ConcurrentHashMap.newKeySet();
+        private final Set<Long> commentIds = ConcurrentHashMap.newKeySet();
+        private final Queue<Query> purges = new ConcurrentLinkedQueue<>();
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(limit, maxPageSize));
+    }
+}
@@ -0,0 +1,121 @@
+package com.agilepm.service.impl;
+
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.SearchHitDTO;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.repository.CommentRepository;
+import com.agilepm.repository.SearchHitView;
+import com.agilepm.repository.TaskRepository;
+import com.agilepm.service.TaskSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Search served by generated tsvector columns and GIN indexes; no index directory needed.
+// Task and comment matches are paged separately on (rank, key) and merged in that order.
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "postgres")
+public class PostgresTaskSearchService implements TaskSearchService {
+
+    @Value("${app.pagination.default-page-size}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+
+    @Autowired
+    public PostgresTaskSearchService(TaskRepository taskRepository, CommentRepository commentRepository) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SearchHitDTO> search(String query, Long companyId, Long projectId, String cursor, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BusinessValidationException("Search query is required");
+        }
+        int pageSize = resolvePageSize(limit);
+
+        Float afterRank = null;
+        String afterKey = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = CursorPage.decodeCursor(cursor, 2);
+            try {
+                afterRank = Float.parseFloat(parts[0]);
+            } catch (NumberFormatException e) {
+                throw new BusinessValidationException("Invalid pagination cursor");
+            }
+            afterKey = parts[1];
+        }
+
+        // Each side returns at most pageSize + 1 rows, enough to fill the page and detect more
+        List<SearchHitView> tasks = taskRepository.searchPage(
+            query, companyId, projectId, afterRank, afterKey, pageSize + 1);
+        List<SearchHitView> comments = commentRepository.searchPage(
+            query, companyId, projectId, afterRank, afterKey, pageSize + 1);
+
+        List<SearchHitView> merged = new ArrayList<>(Math.min(tasks.size() + comments.size(), pageSize + 1));
+        int t = 0;
+        int c = 0;
+        while (merged.size() <= pageSize && (t < tasks.size() || c < comments.size())) {
+            if (c >= comments.size() || (t < tasks.size() && comesFirst(tasks.get(t), comments.get(c)))) {
+                merged.add(tasks.get(t++));
+            } else {
+                merged.add(comments.get(c++));
+            }
+        }
+
+        boolean hasMore = merged.size() > pageSize;
+        List<SearchHitView> page = hasMore ? merged.subList(0, pageSize) : merged;
+
+        List<SearchHitDTO> hits = new ArrayList<>(page.size());
+        for (SearchHitView row : page) {
+            hits.add(new SearchHitDTO(
+                row.getCommentId() != null ? SearchHitDTO.HitType.COMMENT : SearchHitDTO.HitType.TASK,
+                row.getTaskId(),
+                row.getCommentId(),
+                row.getProjectId(),
+                row.getTitle(),
+                row.getSnippet(),
+                row.getRank()
+            ));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            SearchHitView last = page.get(page.size() - 1);
+            nextCursor = CursorPage.encodeCursor(last.getRank(), last.getSearchKey());
+        }
+        return new CursorPage<>(hits, nextCursor);
+    }
+
+    // Generated columns are always current, so there is nothing to rebuild
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public long rebuildIndex() {
+        return 0;
+    }
+
+    // Higher rank first, then key in byte order, as the queries sort
+    private static boolean comesFirst(SearchHitView a, SearchHitView b) {
+        int byRank = Float.compare(b.getRank(), a.getRank());
+        return byRank != 0 ? byRank < 0 : a.getSearchKey().compareTo(b.getSearchKey()) < 0;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(limit, maxPageSize));
+    }
+}
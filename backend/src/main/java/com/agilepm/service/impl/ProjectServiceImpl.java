@@ -1,37 +1,69 @@
 package com.agilepm.service.impl;
 
+import com.agilepm.dto.BoardColumnDTO;
+import com.agilepm.dto.BoardDTO;
+import com.agilepm.dto.CursorPage;
 import com.agilepm.dto.ProjectDTO;
 import com.agilepm.dto.TaskDTO;
+import com.agilepm.event.ProjectDeletedEvent;
+import com.agilepm.exception.BusinessValidationException;
 import com.agilepm.model.Company;
 import com.agilepm.model.Project;
+import com.agilepm.model.Task;
 import com.agilepm.model.User;
+import com.agilepm.model.ProjectColumnCounter;
 import com.agilepm.repository.CompanyRepository;
+import com.agilepm.repository.ProjectColumnCounterRepository;
 import com.agilepm.repository.ProjectRepository;
+import com.agilepm.repository.TaskBoardCardView;
+import com.agilepm.repository.TaskRepository;
 import com.agilepm.repository.UserRepository;
 import com.agilepm.service.ProjectService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
 
+    @Value("${app.board.default-cards-per-column}")
+    private int defaultCardsPerColumn;
+
+    @Value("${app.board.max-cards-per-column}")
+    private int maxCardsPerColumn;
+
     private final ProjectRepository projectRepository;
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectColumnCounterRepository columnCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ProjectServiceImpl(
         ProjectRepository projectRepository,
         CompanyRepository companyRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        TaskRepository taskRepository,
+        ProjectColumnCounterRepository columnCounterRepository,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.projectRepository = projectRepository;
         this.companyRepository = companyRepository;
         this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.columnCounterRepository = columnCounterRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -94,6 +126,7 @@ public class ProjectServiceImpl implements ProjectService {
             .orElseThrow(() -> new RuntimeException("Project not found"));
         
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new ProjectDeletedEvent(projectId, project.getCompany().getId()));
     }
 
     @Override
@@ -124,12 +157,83 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional(readOnly = true)
     public List<TaskDTO> getProjectTasks(Long projectId) {
-        Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        return project.getTasks().stream()
-            .map(TaskDTO::new)
-            .collect(Collectors.toList());
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+
+        return taskRepository.findDtosByProject(projectId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BoardDTO getProjectBoard(Long projectId, Integer cardsPerColumn) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+
+        int cardLimit = cardsPerColumn == null
+            ? defaultCardsPerColumn
+            : Math.max(1, Math.min(cardsPerColumn, maxCardsPerColumn));
+
+        // Every status gets a column, even when it has no cards
+        Map<Task.TaskStatus, BoardColumnDTO> columns = new EnumMap<>(Task.TaskStatus.class);
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            columns.put(status, new BoardColumnDTO(status));
+        }
+        // Totals come from the maintained column counters rather than counting the project's tasks
+        for (ProjectColumnCounter counter : columnCounterRepository.findByProject_Id(projectId)) {
+            BoardColumnDTO column = columns.get(counter.getStatus());
+            column.setCount(counter.getTaskCount());
+            column.setWipLimit(counter.getWipLimit());
+        }
+
+        // One card beyond the limit per column tells whether the column continues
+        Set<Task.TaskStatus> continued = EnumSet.noneOf(Task.TaskStatus.class);
+        for (TaskBoardCardView card : taskRepository.findBoardCards(projectId, cardLimit + 1)) {
+            BoardColumnDTO column = columns.get(card.getStatus());
+            if (column.getCards().size() == cardLimit) {
+                continued.add(card.getStatus());
+                continue;
+            }
+            column.getCards().add(new TaskDTO(
+                card.getId(),
+                card.getTitle(),
+                card.getDescription(),
+                card.getProjectId(),
+                card.getAssignedToId(),
+                card.getSprintId(),
+                card.getStatus(),
+                card.getPriority(),
+                card.getDueDate(),
+                card.getCreatedAt(),
+                card.getVersion(),
+                card.getCommentCount()
+            ));
+        }
+
+        // Columns with more cards than returned continue via the column paging endpoint
+        for (BoardColumnDTO column : columns.values()) {
+            List<TaskDTO> cards = column.getCards();
+            if (continued.contains(column.getStatus())) {
+                column.setNextCursor(CursorPage.encodeCursor(cards.get(cards.size() - 1).getId()));
+            }
+        }
+
+        return new BoardDTO(projectId, new ArrayList<>(columns.values()));
+    }
+
+    // Limits are stored for every workflow but only enforced while the project is KANBAN
+    @Override
+    @Transactional
+    public void setColumnWipLimit(Long projectId, Task.TaskStatus status, Integer wipLimit) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found");
+        }
+        if (wipLimit != null && wipLimit < 1) {
+            throw new BusinessValidationException("WIP limit must be at least 1");
+        }
+
+        columnCounterRepository.upsertWipLimit(projectId, status.name(), wipLimit);
     }
 
     @Override
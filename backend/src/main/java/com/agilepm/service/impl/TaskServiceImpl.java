@@ -1,7 +1,15 @@
 package com.agilepm.service.impl;
 
 import com.agilepm.dto.CommentDTO;
+import com.agilepm.dto.CursorPage;
 import com.agilepm.dto.TaskDTO;
+import com.agilepm.event.CommentAddedEvent;
+import com.agilepm.event.CommentDeletedEvent;
+import com.agilepm.event.TaskChangedEvent;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.ConflictException;
+import com.agilepm.exception.PreconditionFailedException;
+import com.agilepm.exception.ResourceNotFoundException;
 import com.agilepm.model.Comment;
 import com.agilepm.model.Project;
 import com.agilepm.model.Task;
@@ -10,33 +18,86 @@ import com.agilepm.repository.CommentRepository;
 import com.agilepm.repository.ProjectRepository;
 import com.agilepm.repository.TaskRepository;
 import com.agilepm.repository.UserRepository;
+import com.agilepm.service.SprintMetricsService;
 import com.agilepm.service.TaskService;
+import com.agilepm.service.TaskWorkflowService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class TaskServiceImpl implements TaskService {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    @Value("${app.pagination.default-page-size}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-page-size}")
+    private int maxPageSize;
+
+    @Value("${app.tasks.bulk-max-items}")
+    private int bulkMaxItems;
+
+    @Value("${app.tasks.bulk-chunk-size}")
+    private int bulkChunkSize;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final SprintMetricsService sprintMetricsService;
+    private final TaskWorkflowService taskWorkflowService;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     @Autowired
     public TaskServiceImpl(
         TaskRepository taskRepository,
         ProjectRepository projectRepository,
         UserRepository userRepository,
-        CommentRepository commentRepository
+        CommentRepository commentRepository,
+        SprintMetricsService sprintMetricsService,
+        TaskWorkflowService taskWorkflowService,
+        ObjectMapper objectMapper,
+        ApplicationEventPublisher eventPublisher
     ) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.commentRepository = commentRepository;
+        this.sprintMetricsService = sprintMetricsService;
+        this.taskWorkflowService = taskWorkflowService;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -64,15 +125,154 @@ public class TaskServiceImpl implements TaskService {
             task.setAssignedTo(assignedUser);
         }
 
+        taskWorkflowService.onTaskCreated(project, task.getStatus());
         Task savedTask = taskRepository.save(task);
-        return new TaskDTO(savedTask);
+        TaskDTO savedTaskDTO = new TaskDTO(savedTask);
+        publishTaskChanged(TaskChangedEvent.ChangeType.CREATED, savedTask, savedTaskDTO, null);
+        return savedTaskDTO;
+    }
+
+    // Projects and assignees are resolved with one IN query each; inserts go out in
+    // JDBC batches and the persistence context is cleared every chunk
+    @Override
+    @Transactional
+    public List<TaskDTO> createTasks(List<TaskDTO> taskDTOs) {
+        validateBulkSize(taskDTOs);
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            TaskDTO taskDTO = taskDTOs.get(i);
+            if (taskDTO.getTitle() == null || taskDTO.getTitle().isBlank()) {
+                throw new BusinessValidationException("Task at index " + i + " has no title");
+            }
+            if (taskDTO.getProjectId() == null) {
+                throw new BusinessValidationException("Task at index " + i + " has no project");
+            }
+            validateBulkFields(i, taskDTO);
+        }
+
+        Map<Long, Project> projects = loadProjects(taskDTOs);
+        Map<Long, User> users = loadUsers(taskDTOs);
+
+        // Column counters first, so a full Kanban column fails the import before any insert
+        TaskWorkflowService.ColumnChanges columnChanges = new TaskWorkflowService.ColumnChanges();
+        for (TaskDTO taskDTO : taskDTOs) {
+            columnChanges.add(projects.get(taskDTO.getProjectId()), taskDTO.getStatus(), 1);
+        }
+        taskWorkflowService.apply(columnChanges);
+
+        List<Task> created = new ArrayList<>(taskDTOs.size());
+        List<TaskDTO> result = new ArrayList<>(taskDTOs.size());
+        for (TaskDTO taskDTO : taskDTOs) {
+            Task task = new Task(
+                taskDTO.getTitle(),
+                taskDTO.getDescription(),
+                projects.get(taskDTO.getProjectId()),
+                taskDTO.getAssignedToId() != null ? users.get(taskDTO.getAssignedToId()) : null,
+                taskDTO.getStatus(),
+                taskDTO.getPriority(),
+                taskDTO.getDueDate()
+            );
+            entityManager.persist(task);
+            created.add(task);
+
+            if (created.size() == bulkChunkSize) {
+                flushChunk(created, result, TaskChangedEvent.ChangeType.CREATED, Map.of());
+            }
+        }
+        flushChunk(created, result, TaskChangedEvent.ChangeType.CREATED, Map.of());
+        return result;
+    }
+
+    // PATCH semantics: only non-null fields of each item are applied
+    @Override
+    @Transactional
+    public List<TaskDTO> updateTasks(List<TaskDTO> taskDTOs) {
+        validateBulkSize(taskDTOs);
+        for (int i = 0; i < taskDTOs.size(); i++) {
+            if (taskDTOs.get(i).getId() == null) {
+                throw new BusinessValidationException("Task at index " + i + " has no id");
+            }
+            validateBulkFields(i, taskDTOs.get(i));
+        }
+
+        Map<Long, Project> projects = loadProjects(taskDTOs);
+        Map<Long, User> users = loadUsers(taskDTOs);
+
+        TaskWorkflowService.ColumnChanges columnChanges = new TaskWorkflowService.ColumnChanges();
+        Map<Long, Long> previousProjectIds = new HashMap<>();
+        List<TaskDTO> result = new ArrayList<>(taskDTOs.size());
+        for (int from = 0; from < taskDTOs.size(); from += bulkChunkSize) {
+            List<TaskDTO> chunk = taskDTOs.subList(from, Math.min(from + bulkChunkSize, taskDTOs.size()));
+
+            Map<Long, Task> tasks = taskRepository.findAllById(
+                    chunk.stream().map(TaskDTO::getId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            List<Task> updated = new ArrayList<>(chunk.size());
+            for (TaskDTO taskDTO : chunk) {
+                Task task = tasks.get(taskDTO.getId());
+                if (task == null) {
+                    throw new ResourceNotFoundException("Task", taskDTO.getId());
+                }
+                if (taskDTO.getVersion() != null && !taskDTO.getVersion().equals(task.getVersion())) {
+                    throw ConflictException.staleVersion("Task", task.getId());
+                }
+                Project oldProject = task.getProject();
+                Task.TaskStatus oldStatus = task.getStatus();
+
+                if (taskDTO.getTitle() != null) {
+                    task.setTitle(taskDTO.getTitle());
+                }
+                if (taskDTO.getDescription() != null) {
+                    task.setDescription(taskDTO.getDescription());
+                }
+                if (taskDTO.getStatus() != null) {
+                    task.setStatus(taskDTO.getStatus());
+                }
+                if (taskDTO.getPriority() != null) {
+                    task.setPriority(taskDTO.getPriority());
+                }
+                if (taskDTO.getDueDate() != null) {
+                    task.setDueDate(taskDTO.getDueDate());
+                }
+                if (taskDTO.getProjectId() != null) {
+                    task.setProject(projects.get(taskDTO.getProjectId()));
+                }
+                if (taskDTO.getAssignedToId() != null) {
+                    task.setAssignedTo(users.get(taskDTO.getAssignedToId()));
+                }
+
+                taskWorkflowService.validateTransition(task.getProject(), oldStatus, task.getStatus());
+                columnChanges.move(oldProject, oldStatus, task.getProject(), task.getStatus());
+                if (!oldProject.getId().equals(task.getProject().getId())) {
+                    previousProjectIds.put(task.getId(), oldProject.getId());
+                }
+
+                if (task.getSprint() != null && oldStatus != task.getStatus()) {
+                    sprintMetricsService.onTaskStatusChanged(task.getSprint().getId(), oldStatus, task.getStatus());
+                }
+                updated.add(task);
+            }
+            flushChunk(updated, result, TaskChangedEvent.ChangeType.UPDATED, previousProjectIds);
+        }
+        taskWorkflowService.apply(columnChanges);
+        return result;
     }
 
     @Override
     @Transactional
-    public TaskDTO updateTask(Long taskId, TaskDTO taskDTO) {
+    public TaskDTO updateTask(Long taskId, TaskDTO taskDTO, Long expectedVersion) {
         Task existingTask = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
+        checkVersion(existingTask, expectedVersion);
+
+        // A version echoed back in the body guards against lost updates without If-Match
+        if (expectedVersion == null && taskDTO.getVersion() != null
+                && !taskDTO.getVersion().equals(existingTask.getVersion())) {
+            throw ConflictException.staleVersion("Task", taskId);
+        }
+        Project oldProject = existingTask.getProject();
+        Task.TaskStatus oldStatus = existingTask.getStatus();
 
         // Update basic task details
         existingTask.setTitle(taskDTO.getTitle());
@@ -95,8 +295,104 @@ public class TaskServiceImpl implements TaskService {
             existingTask.setAssignedTo(assignedUser);
         }
 
-        Task updatedTask = taskRepository.save(existingTask);
-        return new TaskDTO(updatedTask);
+        taskWorkflowService.validateTransition(existingTask.getProject(), oldStatus, existingTask.getStatus());
+        taskWorkflowService.onTaskMoved(oldProject, oldStatus, existingTask.getProject(), existingTask.getStatus());
+
+        // Flush so the version check runs here and the returned version is the new one
+        Task updatedTask = taskRepository.saveAndFlush(existingTask);
+        if (updatedTask.getSprint() != null && oldStatus != updatedTask.getStatus()) {
+            sprintMetricsService.onTaskStatusChanged(updatedTask.getSprint().getId(), oldStatus, updatedTask.getStatus());
+        }
+        TaskDTO updatedTaskDTO = new TaskDTO(updatedTask);
+        publishTaskChanged(TaskChangedEvent.ChangeType.UPDATED, updatedTask, updatedTaskDTO, movedFrom(oldProject, updatedTask));
+        return updatedTaskDTO;
+    }
+
+    // RFC 7396: absent members are left alone, null members clear the field. Associations
+    // are only looked up when the id actually changes; @DynamicUpdate on Task keeps the
+    // UPDATE to the columns that changed.
+    @Override
+    @Transactional
+    public TaskDTO patchTask(Long taskId, JsonNode mergePatch, Long expectedVersion) {
+        if (mergePatch == null || !mergePatch.isObject()) {
+            throw new BusinessValidationException("Merge patch must be a JSON object");
+        }
+
+        Task task = taskRepository.findById(taskId)
+            .orElseThrow(() -> new RuntimeException("Task not found"));
+        checkVersion(task, expectedVersion);
+        Project oldProject = task.getProject();
+        Task.TaskStatus oldStatus = task.getStatus();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = mergePatch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            boolean isNull = value.isNull();
+
+            switch (field.getKey()) {
+                case "title":
+                    String title = isNull ? null : value.asText();
+                    if (title == null || title.isBlank() || title.length() > 200) {
+                        throw new BusinessValidationException("Task title is required and must be less than 200 characters");
+                    }
+                    task.setTitle(title);
+                    break;
+                case "description":
+                    String description = isNull ? null : value.asText();
+                    if (description != null && description.length() > 1000) {
+                        throw new BusinessValidationException("Task description must be less than 1000 characters");
+                    }
+                    task.setDescription(description);
+                    break;
+                case "status":
+                    task.setStatus(isNull ? null : readPatchValue(field.getKey(), value, Task.TaskStatus.class));
+                    break;
+                case "priority":
+                    task.setPriority(isNull ? null : readPatchValue(field.getKey(), value, Task.TaskPriority.class));
+                    break;
+                case "dueDate":
+                    task.setDueDate(isNull ? null : readPatchValue(field.getKey(), value, LocalDateTime.class));
+                    break;
+                case "projectId":
+                    if (isNull) {
+                        throw new BusinessValidationException("A task must belong to a project");
+                    }
+                    Long projectId = readPatchValue(field.getKey(), value, Long.class);
+                    if (!projectId.equals(task.getProject().getId())) {
+                        Project project = projectRepository.findById(projectId)
+                            .orElseThrow(() -> new RuntimeException("Project not found"));
+                        task.setProject(project);
+                    }
+                    break;
+                case "assignedToId":
+                    if (isNull) {
+                        task.setAssignedTo(null);
+                        break;
+                    }
+                    Long assignedToId = readPatchValue(field.getKey(), value, Long.class);
+                    if (task.getAssignedTo() == null || !assignedToId.equals(task.getAssignedTo().getId())) {
+                        User assignedUser = userRepository.findById(assignedToId)
+                            .orElseThrow(() -> new RuntimeException("Assigned user not found"));
+                        task.setAssignedTo(assignedUser);
+                    }
+                    break;
+                default:
+                    throw new BusinessValidationException("Field '" + field.getKey() + "' cannot be patched");
+            }
+        }
+
+        taskWorkflowService.validateTransition(task.getProject(), oldStatus, task.getStatus());
+        taskWorkflowService.onTaskMoved(oldProject, oldStatus, task.getProject(), task.getStatus());
+
+        if (task.getSprint() != null && oldStatus != task.getStatus()) {
+            sprintMetricsService.onTaskStatusChanged(task.getSprint().getId(), oldStatus, task.getStatus());
+        }
+
+        taskRepository.flush();
+        TaskDTO patchedTaskDTO = new TaskDTO(task);
+        publishTaskChanged(TaskChangedEvent.ChangeType.UPDATED, task, patchedTaskDTO, movedFrom(oldProject, task));
+        return patchedTaskDTO;
     }
 
     @Override
@@ -105,7 +401,12 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
         
+        taskWorkflowService.onTaskDeleted(task.getProject(), task.getStatus());
+        publishTaskChanged(TaskChangedEvent.ChangeType.DELETED, task, new TaskDTO(task), null);
         taskRepository.delete(task);
+        if (task.getSprint() != null) {
+            sprintMetricsService.onTaskRemoved(task.getSprint().getId(), task.getStatus());
+        }
     }
 
     @Override
@@ -119,78 +420,205 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-            .map(TaskDTO::new)
-            .collect(Collectors.toList());
+    public CursorPage<TaskDTO> getAllTasks(String cursor, Integer limit) {
+        return keysetPage(cursor, limit, taskRepository::findPageAfter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDTO> getTasksByProject(Long projectId, String cursor, Integer limit) {
+        return keysetPage(cursor, limit, (afterId, page) ->
+            taskRepository.findPageByProject(projectId, afterId, page));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByProject(Long projectId) {
-        return taskRepository.findByProject_Id(projectId).stream()
-            .map(TaskDTO::new)
-            .collect(Collectors.toList());
+    public CursorPage<TaskDTO> getTasksByUser(Long userId, String cursor, Integer limit) {
+        return keysetPage(cursor, limit, (afterId, page) ->
+            taskRepository.findPageByAssignee(userId, afterId, page));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByUser(Long userId) {
-        return taskRepository.findByAssignedTo_Id(userId).stream()
-            .map(TaskDTO::new)
-            .collect(Collectors.toList());
+    public CursorPage<TaskDTO> getTasksByStatus(Task.TaskStatus status, String cursor, Integer limit) {
+        return keysetPage(cursor, limit, (afterId, page) ->
+            taskRepository.findPageByStatus(status, afterId, page));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByStatus(Task.TaskStatus status) {
-        return taskRepository.findByStatus(status).stream()
-            .map(TaskDTO::new)
-            .collect(Collectors.toList());
+    public CursorPage<TaskDTO> getTasksByPriority(Task.TaskPriority priority, String cursor, Integer limit) {
+        return keysetPage(cursor, limit, (afterId, page) ->
+            taskRepository.findPageByPriority(priority, afterId, page));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskDTO> getTasksByPriority(Task.TaskPriority priority) {
-        return taskRepository.findByPriority(priority).stream()
-            .map(TaskDTO::new)
-            .collect(Collectors.toList());
+    public CursorPage<TaskDTO> filterTasks(
+        Long projectId,
+        Long assignedToId,
+        Task.TaskStatus status,
+        Task.TaskPriority priority,
+        String cursor,
+        Integer limit
+    ) {
+        return keysetPage(cursor, limit, (afterId, page) ->
+            taskRepository.findPageByFilter(
+                projectId, assignedToId, status, priority, afterId, page.getPageSize()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(OutputStream outputStream) throws IOException {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            Iterator<Task> iterator = tasks.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                outputStream.write(objectMapper.writeValueAsBytes(new TaskDTO(task)));
+                outputStream.write('\n');
+
+                // Detach exported rows so the persistence context stays constant-size
+                entityManager.detach(task);
+
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        }
     }
 
     @Override
     @Transactional
-    public TaskDTO assignTask(Long taskId, Long userId) {
+    public TaskDTO assignTask(Long taskId, Long userId, Long expectedVersion) {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
+        checkVersion(task, expectedVersion);
 
         User assignedUser = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         task.setAssignedTo(assignedUser);
-        Task updatedTask = taskRepository.save(task);
-        return new TaskDTO(updatedTask);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskDTO updatedTaskDTO = new TaskDTO(updatedTask);
+        publishTaskChanged(TaskChangedEvent.ChangeType.ASSIGNED, updatedTask, updatedTaskDTO, null);
+        return updatedTaskDTO;
     }
 
     @Override
     @Transactional
-    public TaskDTO updateTaskStatus(Long taskId, Task.TaskStatus newStatus) {
+    public TaskDTO updateTaskStatus(
+        Long taskId,
+        Task.TaskStatus newStatus,
+        Task.TaskStatus expectedStatus,
+        Long expectedVersion
+    ) {
+        if (expectedStatus != null) {
+            return transitionTaskStatus(taskId, expectedStatus, newStatus, expectedVersion);
+        }
+
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
+        checkVersion(task, expectedVersion);
+
+        Task.TaskStatus oldStatus = task.getStatus();
+        taskWorkflowService.validateTransition(task.getProject(), oldStatus, newStatus);
+        taskWorkflowService.onTaskMoved(task.getProject(), oldStatus, task.getProject(), newStatus);
 
         task.setStatus(newStatus);
-        Task updatedTask = taskRepository.save(task);
-        return new TaskDTO(updatedTask);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+
+        if (task.getSprint() != null) {
+            sprintMetricsService.onTaskStatusChanged(task.getSprint().getId(), oldStatus, newStatus);
+        }
+        TaskDTO updatedTaskDTO = new TaskDTO(updatedTask);
+        publishTaskChanged(TaskChangedEvent.ChangeType.STATUS_CHANGED, updatedTask, updatedTaskDTO, null);
+        return updatedTaskDTO;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<CommentDTO> getTaskComments(Long taskId) {
+    // Single conditional UPDATE instead of read-modify-write; the row is only read afterwards,
+    // to build the response and to explain a miss. A rejected transition or a full WIP column
+    // throws after the UPDATE, which rolls it back with the rest of the transaction.
+    private TaskDTO transitionTaskStatus(
+        Long taskId,
+        Task.TaskStatus expectedStatus,
+        Task.TaskStatus newStatus,
+        Long expectedVersion
+    ) {
+        int updated = taskRepository.transitionStatus(taskId, expectedStatus, newStatus, expectedVersion);
+
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Task not found"));
+        if (updated == 0) {
+            checkVersion(task, expectedVersion);
+            throw new ConflictException(String.format(
+                "Task %d is %s, expected %s", taskId, task.getStatus(), expectedStatus));
+        }
+        taskWorkflowService.validateTransition(task.getProject(), expectedStatus, newStatus);
+        taskWorkflowService.onTaskMoved(task.getProject(), expectedStatus, task.getProject(), newStatus);
+
+        if (task.getSprint() != null) {
+            sprintMetricsService.onTaskStatusChanged(task.getSprint().getId(), expectedStatus, newStatus);
+        }
+        TaskDTO taskDTO = new TaskDTO(task);
+        publishTaskChanged(TaskChangedEvent.ChangeType.STATUS_CHANGED, task, taskDTO, null);
+        return taskDTO;
+    }
+
+    // Listeners (search index, live board) receive these after the transaction commits
+    private void publishTaskChanged(
+        TaskChangedEvent.ChangeType changeType,
+        Task task,
+        TaskDTO taskDTO,
+        Long previousProjectId
+    ) {
+        Long companyId = task.getProject().getCompany().getId();
+        eventPublisher.publishEvent(new TaskChangedEvent(changeType, taskDTO, companyId, previousProjectId));
+    }
 
-        return task.getComments().stream()
-            .map(CommentDTO::new)
-            .collect(Collectors.toList());
+    private static Long movedFrom(Project oldProject, Task task) {
+        return oldProject.getId().equals(task.getProject().getId()) ? null : oldProject.getId();
+    }
+
+    // If-Match precondition; null means the client sent none (or "*")
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task", task.getId(), task.getVersion());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CommentDTO> getTaskComments(Long taskId, String cursor, Integer limit) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new RuntimeException("Task not found");
+        }
+
+        int pageSize = resolvePageSize(limit);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<CommentDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = commentRepository.findFirstPageByTask(taskId, pageable);
+        } else {
+            String[] parts = CursorPage.decodeCursor(cursor, 2);
+            try {
+                rows = commentRepository.findPageByTaskAfter(
+                    taskId, LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), pageable);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BusinessValidationException("Invalid pagination cursor");
+            }
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<CommentDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            CommentDTO last = items.get(items.size() - 1);
+            nextCursor = CursorPage.encodeCursor(last.getTimestamp(), last.getId());
+        }
+        return new CursorPage<>(items, nextCursor);
     }
 
     @Override
@@ -204,6 +632,128 @@ public class TaskServiceImpl implements TaskService {
 
         Comment comment = new Comment(task, user, message);
         Comment savedComment = commentRepository.save(comment);
-        return new CommentDTO(savedComment);
+        taskRepository.adjustCommentCount(taskId, 1);
+        CommentDTO savedCommentDTO = new CommentDTO(savedComment);
+        eventPublisher.publishEvent(new CommentAddedEvent(
+            savedCommentDTO, task.getProject().getId(), task.getProject().getCompany().getId()));
+        return savedCommentDTO;
+    }
+
+    @Override
+    @Transactional
+    public void deleteComment(Long taskId, Long commentId) {
+        Comment comment = commentRepository.findById(commentId)
+            .filter(c -> c.getTask().getId().equals(taskId))
+            .orElseThrow(() -> new ResourceNotFoundException("Comment", commentId));
+
+        Project project = comment.getTask().getProject();
+        CommentDTO commentDTO = new CommentDTO(comment);
+        commentRepository.delete(comment);
+        taskRepository.adjustCommentCount(taskId, -1);
+        eventPublisher.publishEvent(new CommentDeletedEvent(
+            commentDTO, project.getId(), project.getCompany().getId()));
+    }
+
+    // Fetches one row beyond the page size to learn whether another page exists
+    private CursorPage<TaskDTO> keysetPage(
+        String cursor,
+        Integer limit,
+        BiFunction<Long, Pageable, List<TaskDTO>> query
+    ) {
+        int pageSize = resolvePageSize(limit);
+        List<TaskDTO> rows = query.apply(CursorPage.decodeIdCursor(cursor), PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TaskDTO> items = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasMore
+            ? CursorPage.encodeCursor(items.get(items.size() - 1).getId())
+            : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private <T> T readPatchValue(String field, JsonNode value, Class<T> type) {
+        try {
+            return objectMapper.treeToValue(value, type);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new BusinessValidationException("Invalid value for '" + field + "'");
+        }
+    }
+
+    // Bulk bodies are not bean-validated (a bulk update sends only the fields it changes),
+    // so the TaskDTO limits are checked here and reported by index
+    private void validateBulkFields(int index, TaskDTO taskDTO) {
+        String title = taskDTO.getTitle();
+        if (title != null && (title.isBlank() || title.length() > 200)) {
+            throw new BusinessValidationException(
+                "Task at index " + index + " has a blank title or one longer than 200 characters");
+        }
+        if (taskDTO.getDescription() != null && taskDTO.getDescription().length() > 1000) {
+            throw new BusinessValidationException(
+                "Task at index " + index + " has a description longer than 1000 characters");
+        }
+    }
+
+    private void validateBulkSize(List<TaskDTO> taskDTOs) {
+        if (taskDTOs == null || taskDTOs.isEmpty()) {
+            throw new BusinessValidationException("At least one task is required");
+        }
+        if (taskDTOs.size() > bulkMaxItems) {
+            throw new BusinessValidationException("At most " + bulkMaxItems + " tasks can be sent at once");
+        }
+    }
+
+    private Map<Long, Project> loadProjects(List<TaskDTO> taskDTOs) {
+        Set<Long> ids = taskDTOs.stream()
+            .map(TaskDTO::getProjectId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, Project> projects = projectRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!projects.containsKey(id)) {
+                throw new ResourceNotFoundException("Project", id);
+            }
+        }
+        return projects;
+    }
+
+    private Map<Long, User> loadUsers(List<TaskDTO> taskDTOs) {
+        Set<Long> ids = taskDTOs.stream()
+            .map(TaskDTO::getAssignedToId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, User> users = userRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Long id : ids) {
+            if (!users.containsKey(id)) {
+                throw new ResourceNotFoundException("Assigned user", id);
+            }
+        }
+        return users;
+    }
+
+    // Sends the pending batched statements, maps the chunk and detaches it
+    private void flushChunk(
+        List<Task> tasks,
+        List<TaskDTO> result,
+        TaskChangedEvent.ChangeType changeType,
+        Map<Long, Long> previousProjectIds
+    ) {
+        entityManager.flush();
+        for (Task task : tasks) {
+            TaskDTO taskDTO = new TaskDTO(task);
+            result.add(taskDTO);
+            publishTaskChanged(changeType, task, taskDTO, previousProjectIds.get(task.getId()));
+        }
+        tasks.clear();
+        entityManager.clear();
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(limit, maxPageSize));
     }
 }
@@ -5,6 +5,7 @@ import com.agilepm.model.Company;
 import com.agilepm.model.User;
 import com.agilepm.repository.CompanyRepository;
 import com.agilepm.repository.UserRepository;
+import com.agilepm.security.TokenRevocationRegistry;
 import com.agilepm.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,16 +21,19 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationRegistry revocationRegistry;
 
     @Autowired
     public UserServiceImpl(
         UserRepository userRepository, 
         CompanyRepository companyRepository,
-        PasswordEncoder passwordEncoder
+        PasswordEncoder passwordEncoder,
+        TokenRevocationRegistry revocationRegistry
     ) {
         this.userRepository = userRepository;
         this.companyRepository = companyRepository;
         this.passwordEncoder = passwordEncoder;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Override
@@ -65,7 +69,11 @@ public class UserServiceImpl implements UserService {
             .orElseThrow(() -> new RuntimeException("User not found"));
 
         existingUser.setName(userDTO.getName());
-        existingUser.setRole(userDTO.getRole());
+        if (existingUser.getRole() != userDTO.getRole()) {
+            existingUser.setRole(userDTO.getRole());
+            // Cached principals and issued tokens carry the old role
+            revocationRegistry.revokeUser(existingUser.getEmail());
+        }
 
         // Only update company if a new company ID is provided
         if (userDTO.getCompanyId() != null) {
@@ -84,6 +92,7 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
         userRepository.delete(user);
+        revocationRegistry.revokeUser(user.getEmail());
     }
 
     @Override
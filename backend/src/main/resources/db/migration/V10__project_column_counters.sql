@@ -0,0 +1,17 @@
+-- Per-project, per-status task counts with an optional WIP limit, maintained by the
+-- task write paths so Kanban moves check the limit without counting the column.
+
+CREATE TABLE project_column_counters (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id  BIGINT NOT NULL REFERENCES projects (id) ON DELETE CASCADE,
+    status      VARCHAR(255) NOT NULL,
+    task_count  INTEGER NOT NULL DEFAULT 0,
+    wip_limit   INTEGER,
+    CONSTRAINT uk_project_column UNIQUE (project_id, status)
+);
+
+INSERT INTO project_column_counters (project_id, status, task_count)
+SELECT project_id, status, COUNT(*)
+FROM tasks
+WHERE status IS NOT NULL
+GROUP BY project_id, status;
@@ -0,0 +1,15 @@
+-- Full-text search columns for the Postgres search backend (app.search.backend=postgres).
+-- Title terms weigh A, description and comment terms B, matching the Lucene field boosts.
+
+ALTER TABLE tasks ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+ALTER TABLE comments ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(message, '')), 'B')
+) STORED;
+
+CREATE INDEX idx_comments_search_vector ON comments USING GIN (search_vector);
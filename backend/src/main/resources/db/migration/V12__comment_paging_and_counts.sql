@@ -0,0 +1,19 @@
+-- Comment lists are keyset paged by (timestamp, id) within a task; the index serves
+-- both the page query and the foreign key lookups done when a task is deleted.
+-- Timestamps must be present for the cursor to order rows; @PrePersist always sets them.
+
+UPDATE comments SET timestamp = CURRENT_TIMESTAMP WHERE timestamp IS NULL;
+ALTER TABLE comments ALTER COLUMN timestamp SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_comments_task_timestamp_id
+    ON comments (task_id, timestamp, id);
+
+-- Denormalized count so task lists and boards can show it without touching comments.
+-- Kept in step by TaskServiceImpl whenever a comment is added or deleted.
+
+ALTER TABLE tasks ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE tasks t
+SET comment_count = c.total
+FROM (SELECT task_id, COUNT(*) AS total FROM comments GROUP BY task_id) c
+WHERE c.task_id = t.id;
@@ -0,0 +1,73 @@
+-- Change tracking for /api/sync. The database stamps updated_at and records
+-- deletes, so bulk JPQL updates, native upserts and cascaded deletes are covered
+-- the same way as ordinary entity writes.
+
+-- Non-volatile defaults keep ADD COLUMN from rewriting the tables; existing rows
+-- count as changed at migration time and arrive with a client's first full sync
+ALTER TABLE tasks ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+ALTER TABLE comments ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+ALTER TABLE sprints ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+
+-- clock_timestamp() rather than now(): closer to commit time for long transactions
+ALTER TABLE tasks ALTER COLUMN updated_at SET DEFAULT clock_timestamp();
+ALTER TABLE comments ALTER COLUMN updated_at SET DEFAULT clock_timestamp();
+ALTER TABLE sprints ALTER COLUMN updated_at SET DEFAULT clock_timestamp();
+
+CREATE FUNCTION touch_updated_at() RETURNS trigger AS $$
+BEGIN
+    NEW.updated_at := clock_timestamp();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_touch BEFORE UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
+CREATE TRIGGER trg_comments_touch BEFORE UPDATE ON comments
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
+CREATE TRIGGER trg_sprints_touch BEFORE UPDATE ON sprints
+    FOR EACH ROW EXECUTE FUNCTION touch_updated_at();
+
+-- Sync reads each table in (updated_at, id) order after the client's position
+CREATE INDEX idx_tasks_updated_at_id ON tasks (updated_at, id);
+CREATE INDEX idx_comments_updated_at_id ON comments (updated_at, id);
+CREATE INDEX idx_sprints_updated_at_id ON sprints (updated_at, id);
+
+-- One row per deleted task, comment or sprint. Project and company are copied at
+-- delete time so the row stays scoped after its parents are gone too.
+-- Purged after app.sync.tombstone-retention-days.
+CREATE TABLE sync_tombstones (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type  VARCHAR(20) NOT NULL,
+    entity_id    BIGINT NOT NULL,
+    project_id   BIGINT,
+    company_id   BIGINT,
+    deleted_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_sync_tombstones_deleted_at_id ON sync_tombstones (deleted_at, id);
+
+-- TG_ARGV[0] is the entity type; comments find their project through the task,
+-- which still exists because comments are deleted before their task
+CREATE FUNCTION record_sync_tombstone() RETURNS trigger AS $$
+DECLARE
+    deleted_project_id BIGINT;
+BEGIN
+    IF TG_TABLE_NAME = 'comments' THEN
+        SELECT project_id INTO deleted_project_id FROM tasks WHERE id = OLD.task_id;
+    ELSE
+        deleted_project_id := OLD.project_id;
+    END IF;
+
+    INSERT INTO sync_tombstones (entity_type, entity_id, project_id, company_id)
+    VALUES (TG_ARGV[0], OLD.id, deleted_project_id,
+            (SELECT company_id FROM projects WHERE id = deleted_project_id));
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_tombstone AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone('TASK');
+CREATE TRIGGER trg_comments_tombstone AFTER DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone('COMMENT');
+CREATE TRIGGER trg_sprints_tombstone AFTER DELETE ON sprints
+    FOR EACH ROW EXECUTE FUNCTION record_sync_tombstone('SPRINT');
@@ -0,0 +1,39 @@
+-- Sync positions move from updated_at to the id of the writing transaction.
+-- A timestamp is taken before commit, so a long transaction (a bulk update, say)
+-- can commit rows stamped behind a position a client has already passed. A row
+-- whose transaction id is below the xmin of the current snapshot is final, in
+-- whatever order the transactions committed, so sync reads up to that xmin.
+
+-- Existing rows predate every running transaction and sort first at 0; the
+-- constant default keeps ADD COLUMN from rewriting the tables
+ALTER TABLE tasks ADD COLUMN updated_xid xid8 NOT NULL DEFAULT '0';
+ALTER TABLE comments ADD COLUMN updated_xid xid8 NOT NULL DEFAULT '0';
+ALTER TABLE sprints ADD COLUMN updated_xid xid8 NOT NULL DEFAULT '0';
+ALTER TABLE sync_tombstones ADD COLUMN deleted_xid xid8 NOT NULL DEFAULT '0';
+
+ALTER TABLE tasks ALTER COLUMN updated_xid SET DEFAULT pg_current_xact_id();
+ALTER TABLE comments ALTER COLUMN updated_xid SET DEFAULT pg_current_xact_id();
+ALTER TABLE sprints ALTER COLUMN updated_xid SET DEFAULT pg_current_xact_id();
+ALTER TABLE sync_tombstones ALTER COLUMN deleted_xid SET DEFAULT pg_current_xact_id();
+
+CREATE OR REPLACE FUNCTION touch_updated_at() RETURNS trigger AS $$
+BEGIN
+    NEW.updated_at := clock_timestamp();
+    NEW.updated_xid := pg_current_xact_id();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Sync reads each table in (updated_xid, id) order after the client's position
+DROP INDEX idx_tasks_updated_at_id;
+DROP INDEX idx_comments_updated_at_id;
+DROP INDEX idx_sprints_updated_at_id;
+DROP INDEX idx_sync_tombstones_deleted_at_id;
+
+CREATE INDEX idx_tasks_updated_xid_id ON tasks (updated_xid, id);
+CREATE INDEX idx_comments_updated_xid_id ON comments (updated_xid, id);
+CREATE INDEX idx_sprints_updated_xid_id ON sprints (updated_xid, id);
+CREATE INDEX idx_sync_tombstones_deleted_xid_id ON sync_tombstones (deleted_xid, id);
+
+-- Retention purge
+CREATE INDEX idx_sync_tombstones_deleted_at ON sync_tombstones (deleted_at);
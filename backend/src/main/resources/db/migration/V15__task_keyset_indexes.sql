@@ -0,0 +1,12 @@
+-- The V2 composites did not end in id, so keyset pages filtered on them could not
+-- walk the index in id order. findPageByAssignee and the assignee filters get
+-- (assigned_to, id) and (assigned_to, status, id). Project + status filters are
+-- already served by idx_tasks_project_status_id from V3, and project + status +
+-- priority now gets its own index ending in id.
+
+DROP INDEX IF EXISTS idx_tasks_assigned_status;
+DROP INDEX IF EXISTS idx_tasks_project_status_priority;
+
+CREATE INDEX idx_tasks_assigned_to_id ON tasks (assigned_to, id);
+CREATE INDEX idx_tasks_assigned_status_id ON tasks (assigned_to, status, id);
+CREATE INDEX idx_tasks_project_status_priority_id ON tasks (project_id, status, priority, id);
@@ -0,0 +1,115 @@
+-- Baseline schema matching the JPA entities as previously generated by ddl-auto.
+-- Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE companies (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    created_by  BIGINT,
+    created_at  TIMESTAMP(6)
+);
+
+CREATE TABLE users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(50)  NOT NULL,
+    email        VARCHAR(100) NOT NULL,
+    password     VARCHAR(120) NOT NULL,
+    role         VARCHAR(255),
+    company_id   BIGINT REFERENCES companies (id),
+    created_at   TIMESTAMP(6),
+    mfa_secret   VARCHAR(255),
+    mfa_enabled  BOOLEAN DEFAULT FALSE,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+ALTER TABLE companies
+    ADD CONSTRAINT fk_companies_created_by FOREIGN KEY (created_by) REFERENCES users (id);
+
+CREATE TABLE projects (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name         VARCHAR(100) NOT NULL,
+    description  VARCHAR(500),
+    company_id   BIGINT NOT NULL REFERENCES companies (id),
+    manager_id   BIGINT REFERENCES users (id),
+    created_at   TIMESTAMP(6),
+    workflow     VARCHAR(255)
+);
+
+CREATE TABLE sprints (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    project_id   BIGINT NOT NULL REFERENCES projects (id),
+    start_date   TIMESTAMP(6) NOT NULL,
+    end_date     TIMESTAMP(6) NOT NULL,
+    status       VARCHAR(255),
+    created_at   TIMESTAMP(6)
+);
+
+CREATE TABLE tasks (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title        VARCHAR(200) NOT NULL,
+    description  VARCHAR(1000),
+    project_id   BIGINT NOT NULL REFERENCES projects (id),
+    assigned_to  BIGINT REFERENCES users (id),
+    sprint_id    BIGINT REFERENCES sprints (id),
+    status       VARCHAR(255),
+    priority     VARCHAR(255),
+    due_date     TIMESTAMP(6),
+    created_at   TIMESTAMP(6)
+);
+
+CREATE TABLE comments (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id      BIGINT NOT NULL REFERENCES tasks (id),
+    user_id      BIGINT NOT NULL REFERENCES users (id),
+    message      VARCHAR(1000) NOT NULL,
+    timestamp    TIMESTAMP(6)
+);
+
+CREATE TABLE audit_logs (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username     VARCHAR(255) NOT NULL,
+    action       VARCHAR(255) NOT NULL,
+    entity_type  VARCHAR(255) NOT NULL,
+    entity_id    VARCHAR(255),
+    details      VARCHAR(255),
+    timestamp    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    ip_address   VARCHAR(255),
+    status       VARCHAR(255)
+);
+
+CREATE TABLE mfa_backup_codes (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    code         VARCHAR(255) NOT NULL,
+    user_id      BIGINT NOT NULL REFERENCES users (id),
+    used         BOOLEAN NOT NULL,
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expires_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE password_reset_tokens (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token        VARCHAR(255) NOT NULL UNIQUE,
+    user_id      BIGINT NOT NULL REFERENCES users (id),
+    expiry_date  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used         BOOLEAN NOT NULL
+);
+
+CREATE TABLE refresh_tokens (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token        VARCHAR(255) NOT NULL UNIQUE,
+    user_id      BIGINT NOT NULL REFERENCES users (id),
+    expiry_date  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE user_devices (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id           BIGINT NOT NULL REFERENCES users (id),
+    device_id         VARCHAR(255) NOT NULL,
+    device_type       VARCHAR(255) NOT NULL,
+    browser_name      VARCHAR(255) NOT NULL,
+    operating_system  VARCHAR(255) NOT NULL,
+    ip_address        VARCHAR(255) NOT NULL,
+    last_login_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    login_attempts    INTEGER NOT NULL,
+    trusted           BOOLEAN NOT NULL,
+    status            VARCHAR(255) NOT NULL
+);
@@ -0,0 +1,17 @@
+-- Indexes backing the task list and filter endpoints. Every list query orders by id
+-- for keyset pagination, so single-column filters carry id as the trailing key.
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_id
+    ON tasks (project_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_priority
+    ON tasks (project_id, status, priority);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_assigned_status
+    ON tasks (assigned_to, status);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_status_id
+    ON tasks (status, id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_id
+    ON tasks (priority, id);
@@ -0,0 +1,5 @@
+-- Serves the board query (partition by status, order by id within a project)
+-- and the per-column keyset paging that follows it.
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_id
+    ON tasks (project_id, status, id);
@@ -0,0 +1,11 @@
+-- One row per sprint per day with the remaining and completed task counts,
+-- maintained incrementally as tasks move in and out of DONE.
+
+CREATE TABLE sprint_burndown_snapshots (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    sprint_id        BIGINT NOT NULL REFERENCES sprints (id) ON DELETE CASCADE,
+    snapshot_date    DATE NOT NULL,
+    remaining_tasks  INTEGER NOT NULL,
+    completed_tasks  INTEGER NOT NULL,
+    CONSTRAINT uk_sprint_burndown_day UNIQUE (sprint_id, snapshot_date)
+);
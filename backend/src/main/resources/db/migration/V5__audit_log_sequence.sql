@@ -0,0 +1,8 @@
+-- Audit ids move from IDENTITY to a pooled sequence so the background writer's
+-- inserts can be batched. Increment matches allocationSize on AuditLog.
+
+ALTER TABLE audit_logs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE audit_logs_seq INCREMENT BY 50;
+
+SELECT setval('audit_logs_seq', COALESCE((SELECT MAX(id) FROM audit_logs), 0) + 50);
@@ -0,0 +1,51 @@
+-- Converts audit_logs into a table range-partitioned by month on timestamp.
+-- Partition bounds are UTC months named audit_logs_pYYYYMM; AuditPartitionManager
+-- creates future months and drops expired ones. The default partition only
+-- catches rows that arrive before their month has been created.
+
+SET LOCAL TIME ZONE 'UTC';
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+
+CREATE TABLE audit_logs (
+    id           BIGINT NOT NULL,
+    username     VARCHAR(255) NOT NULL,
+    action       VARCHAR(255) NOT NULL,
+    entity_type  VARCHAR(255) NOT NULL,
+    entity_id    VARCHAR(255),
+    details      VARCHAR(255),
+    timestamp    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    ip_address   VARCHAR(255),
+    status       VARCHAR(255),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+DO $$
+DECLARE
+    month_start TIMESTAMPTZ;
+    last_month  TIMESTAMPTZ;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(timestamp), now())) INTO month_start FROM audit_logs_legacy;
+    last_month := date_trunc('month', now() + INTERVAL '2 months');
+
+    WHILE month_start <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+            'audit_logs_p' || to_char(month_start, 'YYYYMM'),
+            month_start,
+            month_start + INTERVAL '1 month'
+        );
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, username, action, entity_type, entity_id, details, timestamp, ip_address, status)
+SELECT id, username, action, entity_type, entity_id, details, timestamp, ip_address, status
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+-- Created on the parent, so every partition gets its own local index
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs (timestamp);
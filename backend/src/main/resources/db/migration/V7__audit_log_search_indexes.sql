@@ -0,0 +1,10 @@
+-- Audit search pages newest-first on (timestamp, id); the filtered variants
+-- lead with the equality column so each filter walks its own slice in order.
+-- Indexes on the partitioned parent are created on every partition.
+
+DROP INDEX IF EXISTS idx_audit_logs_timestamp;
+
+CREATE INDEX idx_audit_logs_timestamp_id ON audit_logs (timestamp, id);
+CREATE INDEX idx_audit_logs_username_timestamp ON audit_logs (username, timestamp, id);
+CREATE INDEX idx_audit_logs_entity_timestamp ON audit_logs (entity_type, entity_id, timestamp, id);
+CREATE INDEX idx_audit_logs_action_timestamp ON audit_logs (action, timestamp, id);
@@ -0,0 +1,11 @@
+-- Task ids move from IDENTITY to a pooled sequence so bulk imports can be
+-- inserted in JDBC batches. Increment matches allocationSize on Task; the column
+-- default keeps plain SQL inserts working and never collides with pooled blocks.
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE tasks_seq INCREMENT BY 50 OWNED BY tasks.id;
+
+SELECT setval('tasks_seq', COALESCE((SELECT MAX(id) FROM tasks), 0) + 50);
+
+ALTER TABLE tasks ALTER COLUMN id SET DEFAULT nextval('tasks_seq');
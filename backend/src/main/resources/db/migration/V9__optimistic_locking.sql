@@ -0,0 +1,6 @@
+-- Version columns for optimistic locking (@Version on Task, Project and Sprint).
+-- The default keeps existing rows and plain SQL inserts valid.
+
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE sprints ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
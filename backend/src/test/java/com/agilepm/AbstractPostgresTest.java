@@ -0,0 +1,85 @@
+package com.agilepm;
+
+import com.agilepm.service.SprintMetricsService;
+import com.agilepm.service.SyncService;
+import com.agilepm.service.TaskWorkflowService;
+import com.agilepm.service.impl.TaskServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+// JPA slice over the embedded Postgres with the task services wired in. Every test
+// class shares one context; tests roll back unless they opt out of the transaction.
+// SqlStatementCounter is registered as in MetricsConfig so tests can count statements.
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.agilepm.metrics.SqlStatementCounter")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+    EmbeddedPostgresConfiguration.class,
+    TaskServiceImpl.class,
+    TaskWorkflowService.class,
+    SprintMetricsService.class,
+    SyncService.class
+})
+public abstract class AbstractPostgresTest {
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    // Fixture rows are written with plain SQL so they never sit in the persistence context
+
+    protected Long createCompany() {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO companies (name) VALUES (?) RETURNING id", Long.class, "Company " + UUID.randomUUID());
+    }
+
+    protected Long createUser(Long companyId) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO users (name, email, password, role, company_id) VALUES (?, ?, 'x', 'DEVELOPER', ?) RETURNING id",
+            Long.class, "User", UUID.randomUUID() + "@example.com", companyId);
+    }
+
+    protected Long createProject(Long companyId, Long managerId, String workflow) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name, company_id, manager_id, workflow, created_at) " +
+            "VALUES ('Project', ?, ?, ?, now()) RETURNING id",
+            Long.class, companyId, managerId, workflow);
+    }
+
+    protected Long createSprint(Long projectId) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO sprints (project_id, start_date, end_date, status, created_at) " +
+            "VALUES (?, now(), now() + interval '14 days', 'IN_PROGRESS', now()) RETURNING id",
+            Long.class, projectId);
+    }
+
+    protected Long createTask(Long projectId, Long assignedTo, Long sprintId, String status, String title) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO tasks (title, project_id, assigned_to, sprint_id, status, priority, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, 'SHOULD_HAVE', now()) RETURNING id",
+            Long.class, title, projectId, assignedTo, sprintId, status);
+    }
+
+    // For tests that run outside the test transaction and commit their fixtures
+    protected void deleteCompany(Long companyId) {
+        String projects = "SELECT id FROM projects WHERE company_id = ?";
+        jdbcTemplate.update("DELETE FROM comments WHERE task_id IN (SELECT id FROM tasks WHERE project_id IN (" + projects + "))", companyId);
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id IN (" + projects + ")", companyId);
+        jdbcTemplate.update("DELETE FROM sprints WHERE project_id IN (" + projects + ")", companyId);
+        jdbcTemplate.update("DELETE FROM projects WHERE company_id = ?", companyId);
+        jdbcTemplate.update("DELETE FROM sync_tombstones WHERE company_id = ?", companyId);
+        jdbcTemplate.update("DELETE FROM users WHERE company_id = ?", companyId);
+        jdbcTemplate.update("DELETE FROM companies WHERE id = ?", companyId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.agilepm;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+// One real Postgres per test JVM; the queries under test (row comparisons, upserts,
+// xid8 functions, partitioning) have no H2 equivalent. Flyway migrates it on first use.
+@TestConfiguration(proxyBeanMethods = false)
+public class EmbeddedPostgresConfiguration {
+
+    private static EmbeddedPostgres postgres;
+
+    private static synchronized EmbeddedPostgres postgres() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException e) {
+                    // JVM is exiting
+                }
+            }));
+        }
+        return postgres;
+    }
+
+    @Bean
+    public DataSource dataSource() {
+        return postgres().getPostgresDatabase();
+    }
+}
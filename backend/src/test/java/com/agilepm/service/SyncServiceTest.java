@@ -0,0 +1,192 @@
+package com.agilepm.service;
+
+import com.agilepm.AbstractPostgresTest;
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.SyncDTO;
+import com.agilepm.dto.SyncTombstoneDTO;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.ConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sync reads committed data across transactions, so fixtures are committed and
+// removed again after each test rather than rolled back
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyncServiceTest extends AbstractPostgresTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final List<Long> companyIds = new ArrayList<>();
+
+    private Long companyId;
+    private Long userId;
+    private Long projectId;
+
+    @BeforeEach
+    void createProject() {
+        companyId = newCompany();
+        userId = createUser(companyId);
+        projectId = createProject(companyId, userId, "HYBRID");
+    }
+
+    @AfterEach
+    void deleteCompanies() {
+        companyIds.forEach(this::deleteCompany);
+    }
+
+    @Test
+    void fullSyncPagesThroughEveryStream() {
+        Set<Long> created = new TreeSet<>();
+        Long sprintId = createSprint(projectId);
+        for (int i = 0; i < 5; i++) {
+            created.add(createTask(projectId, userId, sprintId, "TODO", "Task " + i));
+        }
+        Long commentTaskId = created.iterator().next();
+        jdbcTemplate.update("INSERT INTO comments (task_id, user_id, message, timestamp) VALUES (?, ?, 'Hello', now())", commentTaskId, userId);
+
+        Set<Long> synced = new TreeSet<>();
+        int comments = 0;
+        int sprints = 0;
+        String watermark = null;
+        int pages = 0;
+        SyncDTO page;
+        do {
+            page = syncService.changesSince(watermark, companyId, 2);
+            page.getTasks().forEach(task -> assertTrue(synced.add(task.getId()), "task synced twice"));
+            comments += page.getComments().size();
+            sprints += page.getSprints().size();
+            watermark = page.getWatermark();
+            pages++;
+        } while (page.isHasMore());
+
+        assertEquals(created, synced);
+        assertEquals(1, comments);
+        assertEquals(1, sprints);
+        assertEquals(3, pages);
+
+        // Caught up: nothing until something changes
+        SyncDTO again = syncService.changesSince(watermark, companyId, 2);
+        assertTrue(again.getTasks().isEmpty());
+        assertFalse(again.isHasMore());
+    }
+
+    @Test
+    void deltaSyncReturnsUpdatesAndDeletes() {
+        Long keptId = createTask(projectId, userId, null, "TODO", "Kept");
+        Long deletedId = createTask(projectId, userId, null, "TODO", "Deleted");
+        String watermark = syncService.changesSince(null, companyId, 50).getWatermark();
+
+        jdbcTemplate.update("UPDATE tasks SET title = 'Renamed' WHERE id = ?", keptId);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", deletedId);
+        SyncDTO delta = syncService.changesSince(watermark, companyId, 50);
+
+        assertEquals(1, delta.getTasks().size());
+        assertEquals("Renamed", delta.getTasks().get(0).getTitle());
+        assertEquals(1, delta.getDeleted().size());
+        SyncTombstoneDTO tombstone = delta.getDeleted().get(0);
+        assertEquals(SyncTombstoneDTO.EntityType.TASK, tombstone.getEntityType());
+        assertEquals(deletedId, tombstone.getId());
+        assertEquals(projectId, tombstone.getProjectId());
+    }
+
+    @Test
+    void firstSyncSkipsExistingTombstones() {
+        Long deletedId = createTask(projectId, userId, null, "TODO", "Deleted");
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", deletedId);
+
+        SyncDTO first = syncService.changesSince(null, companyId, 50);
+
+        assertTrue(first.getDeleted().isEmpty());
+        assertTrue(first.getTasks().isEmpty());
+    }
+
+    @Test
+    void syncIsScopedToCompany() {
+        Long ownId = createTask(projectId, userId, null, "TODO", "Own");
+        Long otherCompanyId = newCompany();
+        Long otherUserId = createUser(otherCompanyId);
+        Long otherId = createTask(createProject(otherCompanyId, otherUserId, "HYBRID"), otherUserId, null, "TODO", "Other");
+
+        List<Long> scoped = taskIds(syncService.changesSince(null, companyId, 50));
+        assertEquals(List.of(ownId), scoped);
+        assertFalse(taskIds(syncService.changesSince(null, otherCompanyId, 50)).contains(ownId));
+        assertTrue(taskIds(syncService.changesSince(null, otherCompanyId, 50)).contains(otherId));
+    }
+
+    // A write that commits after later ones must not land behind a client's position
+    @Test
+    void longTransactionHoldsBackLaterCommits() throws Exception {
+        Long slowId = createTask(projectId, userId, null, "TODO", "Slow");
+        Long fastId = createTask(projectId, userId, null, "TODO", "Fast");
+        String watermark = syncService.changesSince(null, companyId, 50).getWatermark();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement update = connection.prepareStatement("UPDATE tasks SET title = 'Slow edit' WHERE id = ?")) {
+                update.setLong(1, slowId);
+                update.executeUpdate();
+            }
+            jdbcTemplate.update("UPDATE tasks SET title = 'Fast edit' WHERE id = ?", fastId);
+
+            SyncDTO during = syncService.changesSince(watermark, companyId, 50);
+            assertTrue(during.getTasks().isEmpty());
+            watermark = during.getWatermark();
+
+            connection.commit();
+        }
+
+        SyncDTO after = syncService.changesSince(watermark, companyId, 50);
+        assertEquals(Set.of(slowId, fastId), Set.copyOf(taskIds(after)));
+    }
+
+    @Test
+    void expiredWatermarkIsRejected() {
+        long drainedAt = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now().minus(31, ChronoUnit.DAYS));
+        String expired = CursorPage.encodeCursor(0, 0, 0, 0, 0, 0, 0, 0, drainedAt);
+
+        assertThrows(ConflictException.class, () -> syncService.changesSince(expired, companyId, 50));
+    }
+
+    @Test
+    void malformedWatermarkIsRejected() {
+        assertThrows(BusinessValidationException.class, () -> syncService.changesSince("garbage", companyId, 50));
+        String notNumbers = CursorPage.encodeCursor("a", "b", "c", "d", "e", "f", "g", "h", "i");
+        BusinessValidationException e = assertThrows(BusinessValidationException.class,
+            () -> syncService.changesSince(notNumbers, companyId, 50));
+        assertEquals("Invalid sync watermark", e.getMessage());
+    }
+
+    private Long newCompany() {
+        Long id = createCompany();
+        companyIds.add(id);
+        return id;
+    }
+
+    private static List<Long> taskIds(SyncDTO sync) {
+        return sync.getTasks().stream().map(TaskDTO::getId).toList();
+    }
+}
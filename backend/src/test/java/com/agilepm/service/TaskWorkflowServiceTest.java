@@ -0,0 +1,150 @@
+package com.agilepm.service;
+
+import com.agilepm.AbstractPostgresTest;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.ConflictException;
+import com.agilepm.model.Project;
+import com.agilepm.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs without the test transaction: a rejected move must roll back the counter
+// changes it already made, which only shows once each service call commits on its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskWorkflowServiceTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private final List<Long> companyIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCompanies() {
+        companyIds.forEach(this::deleteCompany);
+    }
+
+    @Test
+    void scrumRequiresReviewBeforeDone() {
+        assertTrue(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.TODO, Task.TaskStatus.IN_PROGRESS));
+        assertTrue(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.REVIEW, Task.TaskStatus.DONE));
+        assertTrue(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.DONE, Task.TaskStatus.TODO));
+        assertFalse(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.TODO, Task.TaskStatus.DONE));
+        assertFalse(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.SCRUM, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.DONE));
+    }
+
+    @Test
+    void kanbanMovesOneColumnAtATime() {
+        assertTrue(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.DONE, Task.TaskStatus.REVIEW));
+        assertFalse(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.DONE, Task.TaskStatus.TODO));
+        assertFalse(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.KANBAN, Task.TaskStatus.TODO, Task.TaskStatus.REVIEW));
+    }
+
+    @Test
+    void hybridAndUnsetValuesAreUnconstrained() {
+        for (Task.TaskStatus from : Task.TaskStatus.values()) {
+            for (Task.TaskStatus to : Task.TaskStatus.values()) {
+                assertTrue(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.HYBRID, from, to));
+            }
+        }
+        assertTrue(TaskWorkflowService.isAllowed(null, Task.TaskStatus.TODO, Task.TaskStatus.DONE));
+        assertTrue(TaskWorkflowService.isAllowed(Project.ProjectWorkflow.SCRUM, null, Task.TaskStatus.DONE));
+    }
+
+    @Test
+    void disallowedMoveIsRejected() {
+        Long projectId = createProject("SCRUM");
+        TaskDTO task = taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.updateTaskStatus(task.getId(), Task.TaskStatus.DONE, null, null));
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.updateTaskStatus(task.getId(), Task.TaskStatus.DONE, Task.TaskStatus.TODO, null));
+    }
+
+    @Test
+    void kanbanColumnHonoursWipLimit() {
+        Long projectId = createProject("KANBAN");
+        setWipLimit(projectId, Task.TaskStatus.IN_PROGRESS, 1);
+        TaskDTO first = taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+        TaskDTO second = taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+
+        taskService.updateTaskStatus(first.getId(), Task.TaskStatus.IN_PROGRESS, null, null);
+        ConflictException e = assertThrows(ConflictException.class,
+            () -> taskService.updateTaskStatus(second.getId(), Task.TaskStatus.IN_PROGRESS, null, null));
+        assertEquals("WIP limit reached for column IN_PROGRESS", e.getMessage());
+        assertThrows(ConflictException.class,
+            () -> taskService.createTask(newTask(projectId, Task.TaskStatus.IN_PROGRESS)));
+
+        assertEquals(1, count(projectId, Task.TaskStatus.TODO));
+        assertEquals(1, count(projectId, Task.TaskStatus.IN_PROGRESS));
+
+        // Moving the first card on frees the column
+        taskService.updateTaskStatus(first.getId(), Task.TaskStatus.REVIEW, null, null);
+        taskService.updateTaskStatus(second.getId(), Task.TaskStatus.IN_PROGRESS, null, null);
+        assertEquals(0, count(projectId, Task.TaskStatus.TODO));
+        assertEquals(1, count(projectId, Task.TaskStatus.IN_PROGRESS));
+        assertEquals(1, count(projectId, Task.TaskStatus.REVIEW));
+    }
+
+    @Test
+    void wipLimitOnlyAppliesToKanban() {
+        Long projectId = createProject("SCRUM");
+        setWipLimit(projectId, Task.TaskStatus.TODO, 1);
+
+        taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+        taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+
+        assertEquals(2, count(projectId, Task.TaskStatus.TODO));
+    }
+
+    @Test
+    void deleteReleasesColumnSlot() {
+        Long projectId = createProject("KANBAN");
+        setWipLimit(projectId, Task.TaskStatus.TODO, 1);
+        TaskDTO task = taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+
+        taskService.deleteTask(task.getId());
+        taskService.createTask(newTask(projectId, Task.TaskStatus.TODO));
+
+        assertEquals(1, count(projectId, Task.TaskStatus.TODO));
+    }
+
+    private Long createProject(String workflow) {
+        Long companyId = createCompany();
+        companyIds.add(companyId);
+        return createProject(companyId, createUser(companyId), workflow);
+    }
+
+    private void setWipLimit(Long projectId, Task.TaskStatus status, int wipLimit) {
+        jdbcTemplate.update(
+            "INSERT INTO project_column_counters (project_id, status, task_count, wip_limit) VALUES (?, ?, 0, ?)",
+            projectId, status.name(), wipLimit);
+    }
+
+    private TaskDTO newTask(Long projectId, Task.TaskStatus status) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle("Task");
+        task.setProjectId(projectId);
+        task.setStatus(status);
+        task.setPriority(Task.TaskPriority.SHOULD_HAVE);
+        return task;
+    }
+
+    private int count(Long projectId, Task.TaskStatus status) {
+        return jdbcTemplate.queryForObject(
+            "SELECT task_count FROM project_column_counters WHERE project_id = ? AND status = ?",
+            Integer.class, projectId, status.name());
+    }
+}
@@ -0,0 +1,69 @@
+package com.agilepm.service.impl;
+
+import com.agilepm.AbstractPostgresTest;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Bulk bodies get the single-task field limits, reported by index instead of failing in the database
+class TaskServiceImplBulkTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private Long projectId;
+
+    @BeforeEach
+    void createProject() {
+        Long companyId = createCompany();
+        projectId = createProject(companyId, createUser(companyId), "HYBRID");
+    }
+
+    @Test
+    void createRejectsOversizedFieldsByIndex() {
+        BusinessValidationException title = assertThrows(BusinessValidationException.class,
+            () -> taskService.createTasks(List.of(newTask("Fine", null), newTask("x".repeat(201), null))));
+        assertEquals("Task at index 1 has a blank title or one longer than 200 characters", title.getMessage());
+
+        BusinessValidationException description = assertThrows(BusinessValidationException.class,
+            () -> taskService.createTasks(List.of(newTask("Fine", "x".repeat(1001)))));
+        assertEquals("Task at index 0 has a description longer than 1000 characters", description.getMessage());
+    }
+
+    @Test
+    void updateChecksOnlyTheFieldsItSends() {
+        Long taskId = createTask(projectId, null, null, "TODO", "Original");
+
+        TaskDTO descriptionOnly = new TaskDTO();
+        descriptionOnly.setId(taskId);
+        descriptionOnly.setDescription("New description");
+        List<TaskDTO> updated = taskService.updateTasks(List.of(descriptionOnly));
+        assertEquals("Original", updated.get(0).getTitle());
+
+        TaskDTO oversized = new TaskDTO();
+        oversized.setId(taskId);
+        oversized.setDescription("x".repeat(1001));
+        assertThrows(BusinessValidationException.class, () -> taskService.updateTasks(List.of(oversized)));
+
+        TaskDTO blankTitle = new TaskDTO();
+        blankTitle.setId(taskId);
+        blankTitle.setTitle(" ");
+        assertThrows(BusinessValidationException.class, () -> taskService.updateTasks(List.of(blankTitle)));
+    }
+
+    private TaskDTO newTask(String title, String description) {
+        TaskDTO task = new TaskDTO();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setProjectId(projectId);
+        return task;
+    }
+}
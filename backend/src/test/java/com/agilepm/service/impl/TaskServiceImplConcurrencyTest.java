@@ -0,0 +1,112 @@
+package com.agilepm.service.impl;
+
+import com.agilepm.AbstractPostgresTest;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.ConflictException;
+import com.agilepm.exception.PreconditionFailedException;
+import com.agilepm.model.Task;
+import com.agilepm.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Optimistic locking on tasks: If-Match versions, versions echoed in the body, and
+// conditional status transitions that only apply when the task is still in the expected column
+class TaskServiceImplConcurrencyTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void createTask() {
+        Long companyId = createCompany();
+        userId = createUser(companyId);
+        Long projectId = createProject(companyId, userId, "HYBRID");
+        taskId = createTask(projectId, userId, null, "TODO", "Task");
+    }
+
+    @Test
+    void updateWithCurrentVersionBumpsIt() {
+        TaskDTO update = taskService.getTaskById(taskId);
+        update.setTitle("Renamed");
+
+        TaskDTO updated = taskService.updateTask(taskId, update, 0L);
+
+        assertEquals("Renamed", updated.getTitle());
+        assertEquals(1L, updated.getVersion());
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        bumpVersion();
+        TaskDTO update = taskService.getTaskById(taskId);
+
+        PreconditionFailedException e = assertThrows(PreconditionFailedException.class,
+            () -> taskService.updateTask(taskId, update, 0L));
+        assertEquals("Task " + taskId + " does not match If-Match; current version is 1", e.getMessage());
+        assertThrows(PreconditionFailedException.class, () -> taskService.assignTask(taskId, userId, 0L));
+    }
+
+    @Test
+    void staleBodyVersionIsRejected() {
+        TaskDTO update = taskService.getTaskById(taskId);
+        bumpVersion();
+
+        assertThrows(ConflictException.class, () -> taskService.updateTask(taskId, update, null));
+    }
+
+    @Test
+    void concurrentWriteBetweenReadAndFlushIsRejected() {
+        TaskDTO update = taskService.getTaskById(taskId);
+        update.setTitle("Renamed");
+        // Another transaction commits after this one loaded the row; the managed entity still holds version 0
+        jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id = ?", taskId);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> taskService.updateTask(taskId, update, null));
+    }
+
+    @Test
+    void conditionalTransitionAppliesOnce() {
+        TaskDTO moved = taskService.updateTaskStatus(
+            taskId, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.TODO, null);
+        flushAndClear();
+
+        assertEquals(Task.TaskStatus.IN_PROGRESS, moved.getStatus());
+        assertEquals(1L, moved.getVersion());
+
+        // A second client that also saw TODO loses the race
+        ConflictException e = assertThrows(ConflictException.class, () -> taskService.updateTaskStatus(
+            taskId, Task.TaskStatus.DONE, Task.TaskStatus.TODO, null));
+        assertEquals("Task " + taskId + " is IN_PROGRESS, expected TODO", e.getMessage());
+    }
+
+    @Test
+    void conditionalTransitionChecksVersion() {
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTaskStatus(
+            taskId, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.TODO, 3L));
+        flushAndClear();
+
+        TaskDTO moved = taskService.updateTaskStatus(
+            taskId, Task.TaskStatus.IN_PROGRESS, Task.TaskStatus.TODO, 0L);
+        assertEquals(Task.TaskStatus.IN_PROGRESS, moved.getStatus());
+    }
+
+    private void bumpVersion() {
+        jdbcTemplate.update("UPDATE tasks SET title = title || '!', version = version + 1 WHERE id = ?", taskId);
+        entityManager.clear();
+    }
+
+    // The conditional UPDATE is a bulk statement and leaves the persistence context untouched
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,123 @@
+package com.agilepm.service.impl;
+
+import com.agilepm.AbstractPostgresTest;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.exception.BusinessValidationException;
+import com.agilepm.exception.PreconditionFailedException;
+import com.agilepm.model.Task;
+import com.agilepm.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// RFC 7396 merge patch: absent members are left alone, null clears, anything else replaces
+class TaskServiceImplPatchTest extends AbstractPostgresTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long projectId;
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void createTask() {
+        Long companyId = createCompany();
+        userId = createUser(companyId);
+        projectId = createProject(companyId, userId, "HYBRID");
+        taskId = createTask(projectId, userId, null, "TODO", "Original title");
+        jdbcTemplate.update("UPDATE tasks SET description = 'Original description' WHERE id = ?", taskId);
+    }
+
+    @Test
+    void absentFieldsAreUnchanged() {
+        TaskDTO patched = taskService.patchTask(taskId, json("{\"title\": \"New title\"}"), null);
+
+        assertEquals("New title", patched.getTitle());
+        assertEquals("Original description", patched.getDescription());
+        assertEquals(userId, patched.getAssignedToId());
+        assertEquals(Task.TaskStatus.TODO, patched.getStatus());
+        assertEquals(Task.TaskPriority.SHOULD_HAVE, patched.getPriority());
+    }
+
+    @Test
+    void nullClearsField() {
+        TaskDTO patched = taskService.patchTask(taskId, json("{\"description\": null, \"assignedToId\": null}"), null);
+
+        assertNull(patched.getDescription());
+        assertNull(patched.getAssignedToId());
+        assertEquals("Original title", patched.getTitle());
+
+        entityManager.clear();
+        TaskDTO reloaded = taskService.getTaskById(taskId);
+        assertNull(reloaded.getDescription());
+        assertNull(reloaded.getAssignedToId());
+    }
+
+    @Test
+    void patchBumpsVersion() {
+        TaskDTO patched = taskService.patchTask(taskId, json("{\"priority\": \"MUST_HAVE\"}"), 0L);
+
+        assertEquals(Task.TaskPriority.MUST_HAVE, patched.getPriority());
+        assertEquals(1L, patched.getVersion());
+    }
+
+    @Test
+    void staleIfMatchIsRejected() {
+        assertThrows(PreconditionFailedException.class,
+            () -> taskService.patchTask(taskId, json("{\"title\": \"New title\"}"), 5L));
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        BusinessValidationException e = assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("{\"sprintId\": 1}"), null));
+        assertEquals("Field 'sprintId' cannot be patched", e.getMessage());
+    }
+
+    @Test
+    void blankOrNullTitleIsRejected() {
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("{\"title\": \"  \"}"), null));
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("{\"title\": null}"), null));
+    }
+
+    @Test
+    void nullProjectIsRejected() {
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("{\"projectId\": null}"), null));
+    }
+
+    @Test
+    void invalidEnumValueIsRejected() {
+        BusinessValidationException e = assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("{\"status\": \"BLOCKED\"}"), null));
+        assertEquals("Invalid value for 'status'", e.getMessage());
+    }
+
+    @Test
+    void nonObjectPatchIsRejected() {
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("[{\"title\": \"New title\"}]"), null));
+        assertThrows(BusinessValidationException.class,
+            () -> taskService.patchTask(taskId, json("\"New title\""), null));
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
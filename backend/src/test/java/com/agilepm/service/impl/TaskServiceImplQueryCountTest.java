@@ -0,0 +1,111 @@
+package com.agilepm.service.impl;
+
+import com.agilepm.AbstractPostgresTest;
+import com.agilepm.dto.CursorPage;
+import com.agilepm.dto.TaskDTO;
+import com.agilepm.metrics.SqlStatementCounter;
+import com.agilepm.model.Task;
+import com.agilepm.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Task list calls read TaskDTOs through constructor projections: one statement per
+// call however many rows, with no per-row loads of project, assignee or sprint
+class TaskServiceImplQueryCountTest extends AbstractPostgresTest {
+
+    private static final int TASKS = 12;
+
+    @Autowired
+    private TaskService taskService;
+
+    private Long projectId;
+    private Long userId;
+    private Long sprintId;
+
+    @BeforeEach
+    void createTasks() {
+        Long companyId = createCompany();
+        userId = createUser(companyId);
+        Long otherUserId = createUser(companyId);
+        projectId = createProject(companyId, userId, "HYBRID");
+        sprintId = createSprint(projectId);
+        for (int i = 0; i < TASKS; i++) {
+            // Alternate assignees so the rows reference several distinct users
+            createTask(projectId, i % 2 == 0 ? userId : otherUserId, sprintId, "IN_PROGRESS", "Task " + i);
+        }
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void stopCounting() {
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    void getTasksByProjectIssuesOneStatement() {
+        CursorPage<TaskDTO> page = countStatements(1, () -> taskService.getTasksByProject(projectId, null, 50));
+
+        assertEquals(TASKS, page.getItems().size());
+        for (TaskDTO task : page.getItems()) {
+            assertEquals(projectId, task.getProjectId());
+            assertEquals(sprintId, task.getSprintId());
+            assertNotNull(task.getAssignedToId());
+        }
+    }
+
+    @Test
+    void getTasksByUserIssuesOneStatement() {
+        CursorPage<TaskDTO> page = countStatements(1, () -> taskService.getTasksByUser(userId, null, 50));
+
+        assertEquals(TASKS / 2, page.getItems().size());
+        page.getItems().forEach(task -> assertEquals(userId, task.getAssignedToId()));
+    }
+
+    @Test
+    void filterTasksIssuesOneStatement() {
+        CursorPage<TaskDTO> page = countStatements(1, () ->
+            taskService.filterTasks(projectId, userId, Task.TaskStatus.IN_PROGRESS, null, null, 50));
+
+        assertEquals(TASKS / 2, page.getItems().size());
+    }
+
+    @Test
+    void everyPageIssuesOneStatement() {
+        CursorPage<TaskDTO> first = countStatements(1, () -> taskService.getTasksByProject(projectId, null, 5));
+        CursorPage<TaskDTO> second = countStatements(1, () ->
+            taskService.getTasksByProject(projectId, first.getNextCursor(), 5));
+
+        assertNotNull(first.getNextCursor());
+        assertEquals(5, second.getItems().size());
+        assertTrue(first.getItems().get(4).getId() < second.getItems().get(0).getId());
+    }
+
+    @Test
+    void projectionsMatchEntityConversion() {
+        List<TaskDTO> projected = taskService.getTasksByProject(projectId, null, 50).getItems();
+        TaskDTO first = projected.get(0);
+        TaskDTO loaded = taskService.getTaskById(first.getId());
+
+        assertEquals(loaded.getTitle(), first.getTitle());
+        assertEquals(loaded.getAssignedToId(), first.getAssignedToId());
+        assertEquals(loaded.getSprintId(), first.getSprintId());
+        assertEquals(loaded.getStatus(), first.getStatus());
+        assertEquals(loaded.getVersion(), first.getVersion());
+    }
+
+    private <T> T countStatements(int expected, Supplier<T> call) {
+        SqlStatementCounter.start();
+        T result = call.get();
+        assertEquals(expected, SqlStatementCounter.stop(), "SQL statements issued");
+        return result;
+    }
+}